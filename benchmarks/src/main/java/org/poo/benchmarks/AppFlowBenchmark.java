@@ -0,0 +1,95 @@
+package org.poo.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.poo.fileio.ObjectInput;
+import org.poo.main.App;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole flow of the shipped scenarios, scaled up by repeating their
+ * commands, each copy shifted after the timestamps of the previous one
+ * The scenarios are read from the directory given by the benchmarks.input system
+ * property, by default the input directory of the working directory
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppFlowBenchmark {
+    private static final String INPUT_PROPERTY = "benchmarks.input";
+    private static final String DEFAULT_INPUT = "input";
+
+    /**
+     * Name of the scenario, without the extension
+     */
+    @Param({"test08_advanced_split_payment", "test15_commerciants",
+            "test19_large_input_part2"})
+    private String scenario;
+
+    /**
+     * Number of times the commands of the scenario are repeated
+     */
+    @Param({"1", "16"})
+    private int copies;
+
+    private ObjectInput input;
+
+    /**
+     * Reads the scenario and repeats its commands
+     *
+     * @throws IOException in case of exceptions to reading the scenario
+     */
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        File file = new File(System.getProperty(INPUT_PROPERTY, DEFAULT_INPUT),
+                scenario + ".json");
+        ObjectNode tree = (ObjectNode) mapper.readTree(file);
+
+        ArrayNode commands = (ArrayNode) tree.get("commands");
+        int period = 0;
+        for (JsonNode command : commands) {
+            period = Math.max(period, command.path("timestamp").asInt());
+        }
+
+        ArrayNode scaled = mapper.createArrayNode();
+        for (int copy = 0; copy < copies; copy++) {
+            for (JsonNode command : commands) {
+                ObjectNode shifted = command.deepCopy();
+                shifted.put("timestamp", command.path("timestamp").asInt() + copy * period);
+                scaled.add(shifted);
+            }
+        }
+        tree.set("commands", scaled);
+        input = mapper.treeToValue(tree, ObjectInput.class);
+    }
+
+    /**
+     * Runs every command of the scaled scenario on a new application
+     *
+     * @return the application, after its commands were run
+     */
+    @Benchmark
+    public App flow() {
+        return BenchmarkApps.run(input);
+    }
+}
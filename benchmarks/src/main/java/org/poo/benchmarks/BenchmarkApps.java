@@ -0,0 +1,58 @@
+package org.poo.benchmarks;
+
+import org.poo.fileio.CommandInput;
+import org.poo.fileio.ObjectInput;
+import org.poo.main.App;
+import org.poo.output.OutputSink;
+import org.poo.utils.Utils;
+
+/**
+ * Helpers shared by the benchmarks that run commands on a whole application
+ */
+final class BenchmarkApps {
+    /**
+     * Drops every result, so the benchmarks do not measure the output
+     */
+    static final OutputSink DISCARD = node -> { };
+
+    private BenchmarkApps() {
+    }
+
+    /**
+     * Creates an application for the input and runs all of its commands, starting from
+     * the same random seeds as Main does
+     *
+     * @param input The input of the application
+     * @return The application, after its commands were run
+     */
+    static App run(final ObjectInput input) {
+        Utils.resetRandom();
+        App app = new App(input, DISCARD);
+        app.flow();
+        return app;
+    }
+
+    /**
+     * Creates an application for the accounts of a generated workload, without any
+     * other command
+     *
+     * @param users    The number of users
+     * @param accounts The number of accounts
+     * @return The application, with its accounts opened, funded and given a card
+     */
+    static App setUp(final int users, final int accounts) {
+        return run(new WorkloadGenerator(0, users, accounts, 0).generate());
+    }
+
+    /**
+     * Creates a command with the given name
+     *
+     * @param name The name of the command
+     * @return The command
+     */
+    static CommandInput command(final String name) {
+        CommandInput command = new CommandInput();
+        command.setCommand(name);
+        return command;
+    }
+}
@@ -0,0 +1,86 @@
+package org.poo.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.poo.commands.CommandRegistry;
+import org.poo.commands.CommandType;
+import org.poo.fileio.CommandInput;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving the handler of every command of a synthetic stream through the
+ * dispatch table against the two name keyed maps it replaced
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(CommandDispatchBenchmark.COMMANDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandDispatchBenchmark {
+    static final int COMMANDS = 1_000_000;
+    private static final long SEED = 42;
+
+    private CommandRegistry registry;
+    private CommandInput[] commands;
+
+    /**
+     * Builds a stream of commands with random names, each one a separate string as if
+     * it was parsed from the input
+     */
+    @Setup
+    public void setUp() {
+        registry = new CommandRegistry();
+
+        CommandType[] types = CommandType.values();
+        Random random = new Random(SEED);
+        commands = new CommandInput[COMMANDS];
+        for (int i = 0; i < COMMANDS; i++) {
+            // The last type is UNKNOWN, which has no name
+            String name = types[random.nextInt(types.length - 1)].getCommandName();
+            commands[i] = new CommandInput();
+            commands[i].setCommand(new String(name));
+        }
+    }
+
+    /**
+     * Resolves every handler by looking its name up in the output and action maps
+     *
+     * @param blackhole consumes the resolved handlers
+     */
+    @Benchmark
+    public void lookupByName(final Blackhole blackhole) {
+        for (CommandInput command : commands) {
+            if (registry.getOutputCommandMap().containsKey(command.getCommand())) {
+                blackhole.consume(registry.getOutputCommandMap().get(command.getCommand()));
+            } else if (registry.getActionCommandMap().containsKey(command.getCommand())) {
+                blackhole.consume(registry.getActionCommandMap().get(command.getCommand()));
+            }
+        }
+    }
+
+    /**
+     * Resolves every handler through the slot of its pre-resolved type
+     *
+     * @param blackhole consumes the resolved handlers
+     */
+    @Benchmark
+    public void dispatchTable(final Blackhole blackhole) {
+        for (CommandInput command : commands) {
+            blackhole.consume(registry.getHandler(command.getCommandType()));
+        }
+    }
+}
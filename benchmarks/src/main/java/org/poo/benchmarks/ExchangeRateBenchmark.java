@@ -0,0 +1,96 @@
+package org.poo.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.poo.fileio.ExchangeInput;
+import org.poo.models.ExchangeRateGraph;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the precomputed rate matrix lookup of ExchangeRateGraph against
+ * the breadth-first search it replaced
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExchangeRateBenchmark {
+    private static final int PAIRS = 1024;
+    private static final long SEED = 42;
+    private static final double RATE_STEP = 1.01;
+
+    /**
+     * Number of currencies in the graph; the shipped inputs use 11
+     */
+    @Param({"11", "64"})
+    private int currencies;
+
+    private ExchangeRateGraph graph;
+    private String[] from;
+    private String[] to;
+    private int next;
+
+    /**
+     * Builds a tree shaped graph, where every currency is quoted against its parent,
+     * and picks the currency pairs that are looked up
+     */
+    @Setup
+    public void setUp() {
+        String[] names = new String[currencies];
+        ExchangeInput[] inputs = new ExchangeInput[currencies - 1];
+        names[0] = "RON";
+        for (int i = 1; i < currencies; i++) {
+            names[i] = String.format("C%02d", i);
+
+            ExchangeInput input = new ExchangeInput();
+            input.setFrom(names[(i - 1) / 2]);
+            input.setTo(names[i]);
+            input.setRate(RATE_STEP + i / (double) currencies);
+            inputs[i - 1] = input;
+        }
+        graph = new ExchangeRateGraph(inputs);
+
+        Random random = new Random(SEED);
+        from = new String[PAIRS];
+        to = new String[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            from[i] = names[random.nextInt(currencies)];
+            to[i] = names[random.nextInt(currencies)];
+        }
+    }
+
+    /**
+     * Looks a rate up in the precomputed matrix
+     *
+     * @return the exchange rate
+     */
+    @Benchmark
+    public double matrixLookup() {
+        int i = next++ & (PAIRS - 1);
+        return graph.findExchangeRate(from[i], to[i]);
+    }
+
+    /**
+     * Looks a rate up by walking the graph
+     *
+     * @return the exchange rate
+     */
+    @Benchmark
+    public double breadthFirstSearch() {
+        int i = next++ & (PAIRS - 1);
+        return graph.findExchangeRateByTraversal(from[i], to[i]);
+    }
+}
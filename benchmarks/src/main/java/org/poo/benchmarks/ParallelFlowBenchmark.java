@@ -0,0 +1,103 @@
+package org.poo.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.poo.fileio.ObjectInput;
+import org.poo.main.App;
+import org.poo.utils.Utils;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential flow of a generated workload against the sharded flow on a
+ * pool with the given number of threads
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelFlowBenchmark {
+    private static final long SEED = 42;
+
+    /**
+     * Number of users
+     */
+    @Param({"1000"})
+    private int users;
+
+    /**
+     * Number of accounts
+     */
+    @Param({"3000"})
+    private int accounts;
+
+    /**
+     * Number of operations after the accounts are set up
+     */
+    @Param({"100000"})
+    private int commands;
+
+    /**
+     * Number of threads of the pool the sharded flow runs on
+     */
+    @Param({"1", "4", "8"})
+    private int threads;
+
+    private ObjectInput input;
+    private ForkJoinPool pool;
+
+    /**
+     * Generates the workload and starts the pool
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = new WorkloadGenerator(SEED, users, accounts, commands).generate();
+        pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Stops the pool
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Runs every command of the workload, one after the other
+     *
+     * @return the application, after its commands were run
+     */
+    @Benchmark
+    public App sequential() {
+        return BenchmarkApps.run(input);
+    }
+
+    /**
+     * Runs every command of the workload through the sharded executor
+     *
+     * @return the application, after its commands were run
+     */
+    @Benchmark
+    public App sharded() {
+        Utils.resetRandom();
+        App app = new App(input, BenchmarkApps.DISCARD);
+        app.flow(Arrays.asList(input.getCommands()).iterator(), pool);
+        return app;
+    }
+}
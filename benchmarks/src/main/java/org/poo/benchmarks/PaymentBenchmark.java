@@ -0,0 +1,117 @@
+package org.poo.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.poo.commands.actions.PayOnline;
+import org.poo.commands.actions.SendMoney;
+import org.poo.fileio.CommandInput;
+import org.poo.main.App;
+import org.poo.models.Account;
+import org.poo.models.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single online payment and a single transfer between the accounts of a
+ * generated workload
+ * The application is rebuilt before every iteration, so the balances do not run out
+ * and the transaction histories do not keep growing across iterations
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentBenchmark {
+    private static final int USERS = 64;
+    private static final int ACCOUNTS = 128;
+    private static final int COMMANDS = 1024;
+    private static final int MAX_AMOUNT = 20;
+    private static final long SEED = 42;
+    // Later than every command of the setup
+    private static final int START_TIMESTAMP = 1_000_000;
+
+    private final PayOnline payOnline = new PayOnline();
+    private final SendMoney sendMoney = new SendMoney();
+
+    private App app;
+    private CommandInput[] payments;
+    private CommandInput[] transfers;
+    private int next;
+    private int timestamp;
+
+    /**
+     * Opens the accounts and builds the payments and transfers that are cycled through
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        app = BenchmarkApps.setUp(USERS, ACCOUNTS);
+
+        List<User> owners = new ArrayList<>();
+        List<Account> accounts = new ArrayList<>();
+        for (User user : app.getUsers()) {
+            for (Account account : user.getAccounts()) {
+                owners.add(user);
+                accounts.add(account);
+            }
+        }
+
+        Random random = new Random(SEED);
+        payments = new CommandInput[COMMANDS];
+        transfers = new CommandInput[COMMANDS];
+        for (int i = 0; i < COMMANDS; i++) {
+            int from = random.nextInt(accounts.size());
+            int to = random.nextInt(accounts.size());
+
+            payments[i] = BenchmarkApps.command("payOnline");
+            payments[i].setEmail(owners.get(from).getEmail());
+            payments[i].setCardNumber(accounts.get(from).getCards().getFirst().getCardNumber());
+            payments[i].setAmount(1 + random.nextInt(MAX_AMOUNT));
+            payments[i].setCurrency(accounts.get(from).getCurrency());
+            payments[i].setDescription("Online payment");
+            payments[i].setCommerciant(app.getCommerciants()
+                    .get(random.nextInt(app.getCommerciants().size())).getCommerciant());
+
+            transfers[i] = BenchmarkApps.command("sendMoney");
+            transfers[i].setEmail(owners.get(from).getEmail());
+            transfers[i].setAccount(accounts.get(from).getIban());
+            transfers[i].setReceiver(accounts.get(to).getIban());
+            transfers[i].setAmount(1 + random.nextInt(MAX_AMOUNT));
+            transfers[i].setDescription("Transfer");
+        }
+        timestamp = START_TIMESTAMP;
+    }
+
+    /**
+     * Pays online with the card of a random account
+     */
+    @Benchmark
+    public void payOnline() {
+        CommandInput command = payments[next++ & (COMMANDS - 1)];
+        command.setTimestamp(++timestamp);
+        payOnline.execute(app, command);
+    }
+
+    /**
+     * Sends money between two random accounts
+     */
+    @Benchmark
+    public void sendMoney() {
+        CommandInput command = transfers[next++ & (COMMANDS - 1)];
+        command.setTimestamp(++timestamp);
+        sendMoney.execute(app, command);
+    }
+}
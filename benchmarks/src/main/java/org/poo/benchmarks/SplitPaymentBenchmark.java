@@ -0,0 +1,97 @@
+package org.poo.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.poo.fileio.CommandInput;
+import org.poo.main.App;
+import org.poo.models.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a split payment end to end: the request, followed by the acceptance of every
+ * participant, which pays it
+ * The application is rebuilt before every iteration, so the balances do not run out
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SplitPaymentBenchmark {
+    private static final int USERS = 64;
+    private static final int SPLITS = 256;
+    private static final int MAX_AMOUNT = 20;
+    private static final long SEED = 42;
+    // Later than every command of the setup
+    private static final int START_TIMESTAMP = 1_000_000;
+
+    /**
+     * Number of accounts the payment is split between
+     */
+    @Param({"2", "8"})
+    private int participants;
+
+    private App app;
+    private CommandInput[][] splits;
+    private int next;
+    private int timestamp;
+
+    /**
+     * Opens one account per user and builds the split payments that are cycled through,
+     * each one between the accounts of distinct users
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        app = BenchmarkApps.setUp(USERS, USERS);
+
+        Random random = new Random(SEED);
+        splits = new CommandInput[SPLITS][];
+        for (int i = 0; i < SPLITS; i++) {
+            int first = random.nextInt(USERS);
+            List<String> accounts = new ArrayList<>();
+            splits[i] = new CommandInput[participants + 1];
+
+            for (int j = 0; j < participants; j++) {
+                User user = app.getUsers().get((first + j) % USERS);
+                accounts.add(user.getAccounts().getFirst().getIban());
+
+                splits[i][j + 1] = BenchmarkApps.command("acceptSplitPayment");
+                splits[i][j + 1].setEmail(user.getEmail());
+                splits[i][j + 1].setSplitPaymentType("equal");
+            }
+
+            splits[i][0] = BenchmarkApps.command("splitPayment");
+            splits[i][0].setSplitPaymentType("equal");
+            splits[i][0].setAccounts(accounts);
+            splits[i][0].setAmount(participants * (1 + random.nextInt(MAX_AMOUNT)));
+            splits[i][0].setCurrency("RON");
+        }
+        timestamp = START_TIMESTAMP;
+    }
+
+    /**
+     * Requests a split payment and accepts it for every participant
+     */
+    @Benchmark
+    public void splitAndAccept() {
+        for (CommandInput command : splits[next++ & (SPLITS - 1)]) {
+            command.setTimestamp(++timestamp);
+            app.execute(command);
+        }
+    }
+}
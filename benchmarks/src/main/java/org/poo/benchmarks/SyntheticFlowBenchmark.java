@@ -0,0 +1,84 @@
+package org.poo.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.poo.fileio.InputGenerator;
+import org.poo.fileio.ObjectInput;
+import org.poo.main.App;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole flow of a synthetic workload, either the payment heavy one of
+ * WorkloadGenerator or the mix of every command of InputGenerator
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SyntheticFlowBenchmark {
+    private static final long SEED = 42;
+
+    /**
+     * Number of users
+     */
+    @Param({"100"})
+    private int users;
+
+    /**
+     * Number of accounts
+     */
+    @Param({"300"})
+    private int accounts;
+
+    /**
+     * Number of operations after the accounts are set up
+     */
+    @Param({"10000", "100000"})
+    private int commands;
+
+    /**
+     * The generator of the workload: "payments" or "mixed"
+     */
+    @Param({"payments", "mixed"})
+    private String workload;
+
+    private ObjectInput input;
+
+    /**
+     * Generates the workload
+     */
+    @Setup
+    public void setUp() {
+        if ("mixed".equals(workload)) {
+            input = new InputGenerator(SEED)
+                    .users(users)
+                    .accountsPerUser(Math.max(1, accounts / users))
+                    .commands(commands)
+                    .generate();
+        } else {
+            input = new WorkloadGenerator(SEED, users, accounts, commands).generate();
+        }
+    }
+
+    /**
+     * Runs every command of the workload on a new application
+     *
+     * @return the application, after its commands were run
+     */
+    @Benchmark
+    public App flow() {
+        return BenchmarkApps.run(input);
+    }
+}
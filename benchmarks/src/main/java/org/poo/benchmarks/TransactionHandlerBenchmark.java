@@ -0,0 +1,93 @@
+package org.poo.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionHandler;
+import org.poo.models.TransactionJournal;
+import org.poo.models.TransactionKind;
+import org.poo.utils.TransactionBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the filters of a long transaction history, as used by the reports and by
+ * printTransactions
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionHandlerBenchmark {
+    private static final int QUERIES = 1024;
+    private static final int INTERVAL = 100;
+    private static final int SPLIT_PAYMENT_PERIOD = 50;
+    private static final long SEED = 42;
+
+    /**
+     * Number of transactions in the history
+     */
+    @Param({"1000", "100000"})
+    private int transactions;
+
+    private TransactionHandler handler;
+    private int[] starts;
+    private int next;
+
+    /**
+     * Fills the history with one transaction per timestamp, with a split payment logged
+     * at an earlier timestamp every now and then, and picks the queried intervals
+     */
+    @Setup
+    public void setUp() {
+        handler = new TransactionHandler(new TransactionJournal());
+        for (int i = 0; i < transactions; i++) {
+            handler.addTransaction(new TransactionBuilder(TransactionKind.CARD_PAYMENT)
+                    .addTimestamp(i).addAmount(i).addCommerciant("Shop").build());
+            if (i % SPLIT_PAYMENT_PERIOD == SPLIT_PAYMENT_PERIOD - 1) {
+                handler.addTransaction(new TransactionBuilder(TransactionKind.SPLIT_PAYMENT)
+                        .addTimestamp(i - SPLIT_PAYMENT_PERIOD / 2).addAmount(i).build());
+            }
+        }
+
+        Random random = new Random(SEED);
+        starts = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            starts[i] = random.nextInt(transactions);
+        }
+    }
+
+    /**
+     * Filters a short interval, in logging order, as the reports do
+     *
+     * @return the filtered transactions
+     */
+    @Benchmark
+    public List<Transaction> filterByInterval() {
+        int start = starts[next++ & (QUERIES - 1)];
+        return handler.filterTransactionsByInterval(start, start + INTERVAL);
+    }
+
+    /**
+     * Filters and sorts everything up to a timestamp, as printTransactions does
+     *
+     * @return the filtered transactions
+     */
+    @Benchmark
+    public List<Transaction> filterAndSortByTimestamp() {
+        return handler.filterAndSortTransactionsByTimestamp(starts[next++ & (QUERIES - 1)]);
+    }
+}
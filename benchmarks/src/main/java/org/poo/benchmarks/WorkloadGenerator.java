@@ -0,0 +1,241 @@
+package org.poo.benchmarks;
+
+import org.poo.fileio.CommandInput;
+import org.poo.fileio.CommerciantInput;
+import org.poo.fileio.ExchangeInput;
+import org.poo.fileio.ObjectInput;
+import org.poo.fileio.UserInput;
+import org.poo.utils.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates a synthetic input with a given number of users, accounts and commands
+ * The accounts are opened, funded and given a card by the first commands, followed by a
+ * random mix of online payments, transfers, split payments and reports between them
+ * The IBANs and card numbers the application will generate are predicted by drawing them
+ * from Utils in the same order the application does, so the generated commands can refer
+ * to them. The application has to be run right after Utils.resetRandom, as Main does
+ */
+public final class WorkloadGenerator {
+    private static final String[] CURRENCIES = {"RON", "EUR", "USD"};
+    private static final String[] COMMERCIANT_TYPES = {"Food", "Clothes", "Tech"};
+    private static final String[] CASHBACK_STRATEGIES = {"spendingThreshold", "nrOfTransactions"};
+    private static final int COMMERCIANTS = 12;
+    private static final double INITIAL_FUNDS = 1_000_000;
+    private static final int MAX_PAYMENT = 50;
+    private static final int MAX_SPLIT_ACCOUNTS = 4;
+    private static final int IBAN_DIGITS = 20;
+    private static final int PERCENT = 100;
+    private static final int PAYMENT_SHARE = 50;
+    private static final int TRANSFER_SHARE = 75;
+    private static final int SPLIT_SHARE = 85;
+    private static final int FUNDS_SHARE = 95;
+
+    private final Random random;
+    private final int users;
+    private final int accounts;
+    private final int commands;
+
+    private final List<CommandInput> generated = new ArrayList<>();
+    private String[] emails;
+    private String[] ibans;
+    private String[] cards;
+    private String[] commerciants;
+    private int timestamp;
+
+    /**
+     * Constructs a generator
+     *
+     * @param seed     The seed of the random choices, the same seed gives the same input
+     * @param users    The number of users
+     * @param accounts The number of accounts, spread evenly between the users
+     * @param commands The number of operations generated after the accounts are set up;
+     *                 a split payment also brings the acceptance of every participant
+     */
+    public WorkloadGenerator(final long seed, final int users, final int accounts,
+                             final int commands) {
+        this.random = new Random(seed);
+        this.users = users;
+        this.accounts = Math.max(accounts, users);
+        this.commands = commands;
+    }
+
+    /**
+     * Generates the input
+     *
+     * @return The generated input
+     */
+    public ObjectInput generate() {
+        generated.clear();
+        timestamp = 0;
+
+        ObjectInput input = new ObjectInput();
+        input.setUsers(generateUsers());
+        input.setCommerciants(generateCommerciants());
+        input.setExchangeRates(generateExchangeRates());
+
+        Utils.resetRandom();
+        generateSetup();
+        for (int i = 0; i < commands; i++) {
+            generateCommand();
+        }
+        Utils.resetRandom();
+
+        input.setCommands(generated.toArray(new CommandInput[0]));
+        return input;
+    }
+
+    // Generates the users, half of them students
+    private UserInput[] generateUsers() {
+        UserInput[] inputs = new UserInput[users];
+        emails = new String[users];
+        for (int i = 0; i < users; i++) {
+            emails[i] = "user" + i + "@bench.org";
+            inputs[i] = new UserInput();
+            inputs[i].setFirstName("User");
+            inputs[i].setLastName("No" + i);
+            inputs[i].setEmail(emails[i]);
+            inputs[i].setBirthDate("1990-01-01");
+            inputs[i].setOccupation(i % 2 == 0 ? "student" : "engineer");
+        }
+        return inputs;
+    }
+
+    // Generates commerciants of every type, using both cashback strategies
+    private CommerciantInput[] generateCommerciants() {
+        CommerciantInput[] inputs = new CommerciantInput[COMMERCIANTS];
+        commerciants = new String[COMMERCIANTS];
+        for (int i = 0; i < COMMERCIANTS; i++) {
+            commerciants[i] = "Shop" + i;
+            inputs[i] = new CommerciantInput();
+            inputs[i].setCommerciant(commerciants[i]);
+            inputs[i].setId(i);
+            inputs[i].setAccount(commerciantIban(i));
+            inputs[i].setType(COMMERCIANT_TYPES[i % COMMERCIANT_TYPES.length]);
+            inputs[i].setCashbackStrategy(CASHBACK_STRATEGIES[i % CASHBACK_STRATEGIES.length]);
+        }
+        return inputs;
+    }
+
+    // Commerciant accounts are not generated by the application, so any unique IBAN works
+    private static String commerciantIban(final int id) {
+        String digits = String.format("%0" + IBAN_DIGITS + "d", id);
+        return "RO" + digits.substring(0, 2) + "POOB" + digits.substring(2);
+    }
+
+    // Generates the rates between the currencies the accounts are opened in
+    private ExchangeInput[] generateExchangeRates() {
+        ExchangeInput eurToRon = new ExchangeInput();
+        eurToRon.setFrom("EUR");
+        eurToRon.setTo("RON");
+        eurToRon.setRate(5.0);
+
+        ExchangeInput usdToEur = new ExchangeInput();
+        usdToEur.setFrom("USD");
+        usdToEur.setTo("EUR");
+        usdToEur.setRate(0.9);
+        return new ExchangeInput[] {eurToRon, usdToEur};
+    }
+
+    /* Opens every account, funds it and creates a card for it, predicting the IBAN and
+    the card number the application will generate */
+    private void generateSetup() {
+        ibans = new String[accounts];
+        cards = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            CommandInput addAccount = command("addAccount");
+            addAccount.setEmail(owner(i));
+            addAccount.setCurrency(CURRENCIES[i % CURRENCIES.length]);
+            addAccount.setAccountType("classic");
+            ibans[i] = Utils.generateIBAN();
+
+            CommandInput addFunds = command("addFunds");
+            addFunds.setEmail(owner(i));
+            addFunds.setAccount(ibans[i]);
+            addFunds.setAmount(INITIAL_FUNDS);
+
+            CommandInput createCard = command("createCard");
+            createCard.setEmail(owner(i));
+            createCard.setAccount(ibans[i]);
+            cards[i] = Utils.generateCardNumber();
+        }
+    }
+
+    // Generates a random operation on a random account
+    private void generateCommand() {
+        int account = random.nextInt(accounts);
+        int choice = random.nextInt(PERCENT);
+
+        if (choice < PAYMENT_SHARE) {
+            CommandInput payOnline = command("payOnline");
+            payOnline.setEmail(owner(account));
+            payOnline.setCardNumber(cards[account]);
+            payOnline.setAmount(1 + random.nextInt(MAX_PAYMENT));
+            payOnline.setCurrency(CURRENCIES[random.nextInt(CURRENCIES.length)]);
+            payOnline.setDescription("Online payment");
+            payOnline.setCommerciant(commerciants[random.nextInt(COMMERCIANTS)]);
+        } else if (choice < TRANSFER_SHARE) {
+            CommandInput sendMoney = command("sendMoney");
+            sendMoney.setEmail(owner(account));
+            sendMoney.setAccount(ibans[account]);
+            sendMoney.setReceiver(ibans[random.nextInt(accounts)]);
+            sendMoney.setAmount(1 + random.nextInt(MAX_PAYMENT));
+            sendMoney.setDescription("Transfer");
+        } else if (choice < SPLIT_SHARE) {
+            generateSplitPayment();
+        } else if (choice < FUNDS_SHARE) {
+            CommandInput addFunds = command("addFunds");
+            addFunds.setEmail(owner(account));
+            addFunds.setAccount(ibans[account]);
+            addFunds.setAmount(MAX_PAYMENT);
+        } else {
+            CommandInput report = command(random.nextBoolean() ? "report" : "spendingsReport");
+            report.setAccount(ibans[account]);
+            report.setStartTimestamp(Math.max(0, timestamp - PERCENT));
+            report.setEndTimestamp(timestamp);
+        }
+    }
+
+    /* Splits an equal payment between accounts of distinct users, followed by the
+    acceptance of every participant */
+    private void generateSplitPayment() {
+        int participants = Math.min(users, 2 + random.nextInt(MAX_SPLIT_ACCOUNTS - 1));
+        int firstUser = random.nextInt(users);
+
+        List<String> splitAccounts = new ArrayList<>();
+        for (int i = 0; i < participants; i++) {
+            int user = (firstUser + i) % users;
+            int accountsOfUser = (accounts - user + users - 1) / users;
+            splitAccounts.add(ibans[user + users * random.nextInt(accountsOfUser)]);
+        }
+
+        CommandInput split = command("splitPayment");
+        split.setSplitPaymentType("equal");
+        split.setAccounts(splitAccounts);
+        split.setAmount(participants * (1 + random.nextInt(MAX_PAYMENT)));
+        split.setCurrency(CURRENCIES[random.nextInt(CURRENCIES.length)]);
+
+        for (int i = 0; i < participants; i++) {
+            CommandInput accept = command("acceptSplitPayment");
+            accept.setEmail(emails[(firstUser + i) % users]);
+            accept.setSplitPaymentType("equal");
+        }
+    }
+
+    // Returns the email of the owner of an account; accounts are dealt round robin
+    private String owner(final int account) {
+        return emails[account % users];
+    }
+
+    // Appends a new command with the next timestamp
+    private CommandInput command(final String name) {
+        CommandInput input = new CommandInput();
+        input.setCommand(name);
+        input.setTimestamp(++timestamp);
+        generated.add(input);
+        return input;
+    }
+}
@@ -0,0 +1,20 @@
+package org.poo.commands;
+
+import org.poo.fileio.CommandInput;
+import org.poo.main.App;
+
+/**
+ * A slot of the dispatch table: executes a command and writes its result, if any,
+ * to the output of the application
+ */
+@FunctionalInterface
+public interface CommandHandler {
+
+    /**
+     * Executes the command
+     *
+     * @param app     The main application context
+     * @param command The input parameters for the command
+     */
+    void handle(App app, CommandInput command);
+}
@@ -4,56 +4,87 @@ import lombok.Getter;
 import org.poo.commands.actions.*;
 import org.poo.commands.outputs.*;
 
+import java.util.Arrays;
 import java.util.HashMap;
 
 /**
  * Registry for managing all available commands in the application
+ * Besides the maps keyed by command name, every command is registered in a dispatch
+ * table indexed by the ordinal of its CommandType, so executing a command does not
+ * need any lookup by name
  */
 @Getter
 public final class CommandRegistry {
     private final HashMap<String, OutputCommand> outputCommandMap = new HashMap<>();
     private final HashMap<String, ActionCommand> actionCommandMap = new HashMap<>();
+    private final CommandHandler[] dispatchTable =
+            new CommandHandler[CommandType.values().length];
 
     /**
      * Constructs the CommandRegistry and initializes all supported commands
      */
     public CommandRegistry() {
+        // Commands that are not registered are ignored
+        Arrays.fill(dispatchTable, (CommandHandler) (app, command) -> { });
         initializeCommands();
     }
 
+    /**
+     * Returns the handler registered for the given type of command
+     *
+     * @param type The type of the command
+     * @return The handler of the command
+     */
+    public CommandHandler getHandler(final CommandType type) {
+        return dispatchTable[type.ordinal()];
+    }
+
     /**
      * Initializes and registers all commands in the registry
      */
     private void initializeCommands() {
         // Output commands
-        outputCommandMap.put("printUsers", new PrintUsers());
-        outputCommandMap.put("deleteAccount", new DeleteAccount());
-        outputCommandMap.put("printTransactions", new PrintTransactions());
-        outputCommandMap.put("report", new Report());
-        outputCommandMap.put("spendingsReport", new SpendingsReport());
-        outputCommandMap.put("businessReport", new BusinessReport());
+        registerOutput(CommandType.PRINT_USERS, new PrintUsers());
+        registerOutput(CommandType.DELETE_ACCOUNT, new DeleteAccount());
+        registerOutput(CommandType.PRINT_TRANSACTIONS, new PrintTransactions());
+        registerOutput(CommandType.REPORT, new Report());
+        registerOutput(CommandType.SPENDINGS_REPORT, new SpendingsReport());
+        registerOutput(CommandType.BUSINESS_REPORT, new BusinessReport());
 
         // Action commands
-        actionCommandMap.put("addAccount", new AddAccount());
-        actionCommandMap.put("createCard", new CreateCard());
-        actionCommandMap.put("addFunds", new AddFunds());
-        actionCommandMap.put("createOneTimeCard", new CreateOneTimeCard());
-        actionCommandMap.put("deleteCard", new DeleteCard());
-        actionCommandMap.put("setMinimumBalance", new SetMinBalance());
-        actionCommandMap.put("payOnline", new PayOnline());
-        actionCommandMap.put("sendMoney", new SendMoney());
-        actionCommandMap.put("splitPayment", new SplitPayment());
-        actionCommandMap.put("checkCardStatus", new CheckCardStatus());
-        actionCommandMap.put("changeInterestRate", new ChangeInterestRate());
-        actionCommandMap.put("addInterest", new AddInterest());
-        actionCommandMap.put("setAlias", new SetAlias());
-        actionCommandMap.put("withdrawSavings", new WithdrawSavings());
-        actionCommandMap.put("upgradePlan", new UpgradePlan());
-        actionCommandMap.put("cashWithdrawal", new CashWithdrawal());
-        actionCommandMap.put("acceptSplitPayment", new AcceptSplitPayment());
-        actionCommandMap.put("rejectSplitPayment", new RejectSplitPayment());
-        actionCommandMap.put("addNewBusinessAssociate", new AddNewBusinessAssociate());
-        actionCommandMap.put("changeSpendingLimit", new ChangeSpendingLimit());
-        actionCommandMap.put("changeDepositLimit", new ChangeDepositLimit());
+        registerAction(CommandType.ADD_ACCOUNT, new AddAccount());
+        registerAction(CommandType.CREATE_CARD, new CreateCard());
+        registerAction(CommandType.ADD_FUNDS, new AddFunds());
+        registerAction(CommandType.CREATE_ONE_TIME_CARD, new CreateOneTimeCard());
+        registerAction(CommandType.DELETE_CARD, new DeleteCard());
+        registerAction(CommandType.SET_MINIMUM_BALANCE, new SetMinBalance());
+        registerAction(CommandType.PAY_ONLINE, new PayOnline());
+        registerAction(CommandType.SEND_MONEY, new SendMoney());
+        registerAction(CommandType.SPLIT_PAYMENT, new SplitPayment());
+        registerAction(CommandType.CHECK_CARD_STATUS, new CheckCardStatus());
+        registerAction(CommandType.CHANGE_INTEREST_RATE, new ChangeInterestRate());
+        registerAction(CommandType.ADD_INTEREST, new AddInterest());
+        registerAction(CommandType.SET_ALIAS, new SetAlias());
+        registerAction(CommandType.WITHDRAW_SAVINGS, new WithdrawSavings());
+        registerAction(CommandType.UPGRADE_PLAN, new UpgradePlan());
+        registerAction(CommandType.CASH_WITHDRAWAL, new CashWithdrawal());
+        registerAction(CommandType.ACCEPT_SPLIT_PAYMENT, new AcceptSplitPayment());
+        registerAction(CommandType.REJECT_SPLIT_PAYMENT, new RejectSplitPayment());
+        registerAction(CommandType.ADD_NEW_BUSINESS_ASSOCIATE, new AddNewBusinessAssociate());
+        registerAction(CommandType.CHANGE_SPENDING_LIMIT, new ChangeSpendingLimit());
+        registerAction(CommandType.CHANGE_DEPOSIT_LIMIT, new ChangeDepositLimit());
+    }
+
+    // Registers an output command, whose result is added to the output of the application
+    private void registerOutput(final CommandType type, final OutputCommand command) {
+        outputCommandMap.put(type.getCommandName(), command);
+        dispatchTable[type.ordinal()] = (app, input) ->
+                app.getOutput().add(command.execute(app, input));
+    }
+
+    // Registers an action command
+    private void registerAction(final CommandType type, final ActionCommand command) {
+        actionCommandMap.put(type.getCommandName(), command);
+        dispatchTable[type.ordinal()] = command::execute;
     }
 }
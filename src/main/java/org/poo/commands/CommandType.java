@@ -0,0 +1,70 @@
+package org.poo.commands;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The commands the application can execute
+ * A command name is resolved to its type once, when the command is parsed, and the
+ * ordinal of the type is its slot in the dispatch table of the CommandRegistry
+ */
+@Getter
+public enum CommandType {
+    PRINT_USERS("printUsers"),
+    DELETE_ACCOUNT("deleteAccount"),
+    PRINT_TRANSACTIONS("printTransactions"),
+    REPORT("report"),
+    SPENDINGS_REPORT("spendingsReport"),
+    BUSINESS_REPORT("businessReport"),
+    ADD_ACCOUNT("addAccount"),
+    CREATE_CARD("createCard"),
+    ADD_FUNDS("addFunds"),
+    CREATE_ONE_TIME_CARD("createOneTimeCard"),
+    DELETE_CARD("deleteCard"),
+    SET_MINIMUM_BALANCE("setMinimumBalance"),
+    PAY_ONLINE("payOnline"),
+    SEND_MONEY("sendMoney"),
+    SPLIT_PAYMENT("splitPayment"),
+    CHECK_CARD_STATUS("checkCardStatus"),
+    CHANGE_INTEREST_RATE("changeInterestRate"),
+    ADD_INTEREST("addInterest"),
+    SET_ALIAS("setAlias"),
+    WITHDRAW_SAVINGS("withdrawSavings"),
+    UPGRADE_PLAN("upgradePlan"),
+    CASH_WITHDRAWAL("cashWithdrawal"),
+    ACCEPT_SPLIT_PAYMENT("acceptSplitPayment"),
+    REJECT_SPLIT_PAYMENT("rejectSplitPayment"),
+    ADD_NEW_BUSINESS_ASSOCIATE("addNewBusinessAssociate"),
+    CHANGE_SPENDING_LIMIT("changeSpendingLimit"),
+    CHANGE_DEPOSIT_LIMIT("changeDepositLimit"),
+    // Any command name that is not supported; it is ignored
+    UNKNOWN(null);
+
+    private static final Map<String, CommandType> BY_NAME = new HashMap<>();
+
+    static {
+        for (CommandType type : values()) {
+            if (type.commandName != null) {
+                BY_NAME.put(type.commandName, type);
+            }
+        }
+    }
+
+    private final String commandName;
+
+    CommandType(final String commandName) {
+        this.commandName = commandName;
+    }
+
+    /**
+     * Resolves a command name to its type
+     *
+     * @param name The name of the command, as it appears in the input
+     * @return The type of the command, or UNKNOWN if the name is not supported
+     */
+    public static CommandType fromName(final String name) {
+        return name == null ? UNKNOWN : BY_NAME.getOrDefault(name, UNKNOWN);
+    }
+}
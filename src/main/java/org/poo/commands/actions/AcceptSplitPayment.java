@@ -1,13 +1,13 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.exceptions.UserNotFoundException;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
+import org.poo.split.SplitLink;
 import org.poo.split.SplitPaymentRequest;
 import org.poo.utils.CommandUtils;
 import org.poo.utils.TransactionBuilder;
@@ -33,13 +33,14 @@ public final class AcceptSplitPayment implements ActionCommand {
             }
 
             String requestedType = command.getSplitPaymentType();
-            SplitPaymentRequest req = user.getNextRequestOfType(requestedType);
+            SplitLink link = user.getNextRequestOfType(requestedType);
 
-            if (req == null) {
+            if (link == null) {
                 return;
             }
+            SplitPaymentRequest req = link.getRequest();
 
-            req.accept(user);
+            req.accept(link);
 
             if (req.allUsersAccepted()) {
                 processPayment(app, req);
@@ -52,73 +53,40 @@ public final class AcceptSplitPayment implements ActionCommand {
 
     // Processes the payment
     private void processPayment(final App app, final SplitPaymentRequest req) {
-        ArrayNode amountsNode = buildAmountsNode(req);
-        ArrayNode accountsNode = buildAccountsNode(req);
-
         String description = String.format("Split payment of %.2f %s",
                 req.getTotal(), req.getCurrency());
         StringBuilder error = new StringBuilder();
 
-        if (req.areFundsSufficient(app, error)) {
-            req.processPayment(app);
-            ObjectNode transaction = buildTransaction(req, description, amountsNode,
-                    accountsNode, null);
+        if (req.areFundsSufficient(app, error) && req.processPayment(error)) {
+            Transaction transaction = buildTransaction(req, description, null);
             logTransaction(app, req, transaction);
         } else {
-            ObjectNode transaction = buildTransaction(req, description, amountsNode,
-                    accountsNode, error.toString());
+            Transaction transaction = buildTransaction(req, description, error.toString());
             logTransaction(app, req, transaction);
         }
     }
 
-    // Removes the split payment request from the global queue
+    // Removes the split payment request from the registry of active split payments
     private void removeSplitPaymentFromSystem(final App app, final SplitPaymentRequest req) {
         app.getActiveSplitPayments().remove(req);
     }
 
-    // Builds the amounts node for the transaction
-    private ArrayNode buildAmountsNode(final SplitPaymentRequest req) {
-        ObjectMapper mapper = new ObjectMapper();
-        ArrayNode amountsNode = mapper.createArrayNode();
-
-        if (req.getAmounts() != null) {
-            for (Double amount : req.getAmounts()) {
-                amountsNode.add(amount);
-            }
-        }
-        return amountsNode;
-    }
-
-    // Builds the accounts node for the transaction
-    private ArrayNode buildAccountsNode(final SplitPaymentRequest req) {
-        ObjectMapper mapper = new ObjectMapper();
-        ArrayNode accountsNode = mapper.createArrayNode();
-
-        if (req.getAccounts() != null) {
-            for (String iban : req.getAccounts()) {
-                accountsNode.add(iban);
-            }
-        }
-        return accountsNode;
-    }
-
     // Builds a transaction object for the split payment
-    private ObjectNode buildTransaction(final SplitPaymentRequest req, final String description,
-                                        final ArrayNode amountsNode, final ArrayNode accountsNode,
-                                        final String error) {
-        TransactionBuilder builder = new TransactionBuilder()
+    private Transaction buildTransaction(final SplitPaymentRequest req, final String description,
+                                         final String error) {
+        TransactionBuilder builder = new TransactionBuilder(TransactionKind.SPLIT_PAYMENT)
                 .addTimestamp(req.getTimestamp())
                 .addDescription(description)
                 .addSplitType(req.getType())
                 .addCurrency(req.getCurrency());
 
         if ("custom".equals(req.getType())) {
-            builder.addAmounts(amountsNode);
+            builder.addAmounts(req.getAmounts());
         } else {
             builder.addAmount(req.getAmounts().getFirst());
         }
 
-        builder.addInvolvedAccounts(accountsNode);
+        builder.addInvolvedAccounts(req.getAccounts());
 
         if (error != null && !error.isEmpty()) {
             builder.addError(error);
@@ -129,7 +97,7 @@ public final class AcceptSplitPayment implements ActionCommand {
 
     // Logs the transaction for the split payment
     private void logTransaction(final App app, final SplitPaymentRequest req,
-                                final ObjectNode transaction) {
+                                final Transaction transaction) {
         for (String iban : req.getAccounts()) {
             User user = app.getDataContainer().getUserAccountMap().get(iban);
             Account account = app.getDataContainer().getAccountMap().get(iban);
@@ -1,10 +1,11 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.fileio.CommandInput;
 import org.poo.models.Account;
 import org.poo.main.App;
 import org.poo.models.AccountFactory;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
 import org.poo.utils.TransactionBuilder;
 
@@ -24,7 +25,8 @@ public final class AddAccount implements ActionCommand {
         User user = app.getDataContainer().getEmailMap().get(command.getEmail());
 
         // Create a new account using the AccountFactory and update the mappings
-        Account newAccount = AccountFactory.createAccount(command);
+        Account newAccount = AccountFactory.createAccount(command,
+                app.getDataContainer().getTransactionJournal());
         if (newAccount == null) {
             return;
         }
@@ -34,13 +36,11 @@ public final class AddAccount implements ActionCommand {
         user.getAccounts().add(newAccount);
         user.getAccountMap().put(newAccount.getIban(), newAccount);
 
-        app.getDataContainer().getAccountMap().put(newAccount.getIban(), newAccount);
-        app.getDataContainer().getUserAccountMap().put(newAccount.getIban(), user);
+        app.getDataContainer().addAccount(newAccount, user);
 
         // Record the creation of a new account in the transaction history
-        ObjectNode transaction = new TransactionBuilder()
-                .addTimestamp(command.getTimestamp())
-                .addDescription("New account created").build();
+        Transaction transaction = new TransactionBuilder(TransactionKind.NEW_ACCOUNT)
+                .addTimestamp(command.getTimestamp()).build();
         user.getTransactionHandler().addTransaction(transaction);
         newAccount.getTransactionHandler().addTransaction(transaction);
     }
@@ -3,6 +3,7 @@ package org.poo.commands.actions;
 import org.poo.exceptions.AccountNotFoundException;
 import org.poo.fileio.CommandInput;
 import org.poo.models.Account;
+import org.poo.models.AccountType;
 import org.poo.main.App;
 import org.poo.utils.CommandUtils;
 
@@ -29,7 +30,7 @@ public final class AddFunds implements ActionCommand {
                 throw new AccountNotFoundException("Account not found");
             }
 
-            if (account.getType().equals("business")) {
+            if (account.getType() == AccountType.BUSINESS) {
                 // Ensure the user has a valid role in the account
                 if (account.getRole(command.getEmail()) == null) {
                     return;
@@ -46,7 +47,7 @@ public final class AddFunds implements ActionCommand {
             }
 
             // Add the specified amount to the account balance
-            account.setBalance(account.getBalance() + command.getAmount());
+            account.getBalanceCell().credit(command.getAmount());
         } catch (AccountNotFoundException e) {
             // Log an error to the application's output if the account is not found
             CommandUtils.addErrorToOutput(app.getOutput(), command, e.getMessage());
@@ -1,11 +1,12 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.exceptions.AccountNotFoundException;
 import org.poo.exceptions.AccountTypeException;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
 import org.poo.utils.CommandUtils;
 import org.poo.utils.TransactionBuilder;
@@ -36,18 +37,16 @@ public final class AddInterest implements ActionCommand {
             double interest = account.getInterestRate() * account.getBalance();
             account.addInterest();
 
-            logTransaction(user, account, command, interest, "Interest rate income");
+            logTransaction(user, account, command, interest);
         } catch (AccountNotFoundException | AccountTypeException e) {
             CommandUtils.addErrorToOutput(app.getOutput(), command, e.getMessage());
         }
     }
 
     private void logTransaction(final User user, final Account account,
-                                final CommandInput command, final double interest,
-                                final String description) {
-        ObjectNode transaction = new TransactionBuilder()
+                                final CommandInput command, final double interest) {
+        Transaction transaction = new TransactionBuilder(TransactionKind.INTEREST_INCOME)
                 .addTimestamp(command.getTimestamp())
-                .addDescription(description)
                 .addAmount(interest)
                 .addCurrency(account.getCurrency()).build();
 
@@ -1,12 +1,13 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.exceptions.CardNotFoundException;
 import org.poo.exceptions.UserNotFoundException;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
 import org.poo.models.Card;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
 import org.poo.utils.CommandUtils;
 import org.poo.utils.TransactionBuilder;
@@ -48,16 +49,13 @@ public final class CashWithdrawal implements ActionCommand {
             double transactionFee = user.getAccountPlan()
                     .getTransactionFee(app, command.getAmount());
 
-            // Check if the account has sufficient funds
-            if (account.getBalance() < (amountWithdrawn + amountWithdrawn * transactionFee)) {
-                logFailedTransaction(user, account, command, "Insufficient funds");
+            // Deduct the withdrawal amount and transaction fee if the funds are sufficient
+            if (!account.getBalanceCell()
+                    .tryDebit(amountWithdrawn + amountWithdrawn * transactionFee)) {
+                logFailedTransaction(user, account, command);
                 return;
             }
 
-            // Deduct the withdrawal amount and transaction fee from the account
-            account.setBalance(account.getBalance()
-                    - (amountWithdrawn + amountWithdrawn * transactionFee));
-
             String description = String.format("Cash withdrawal of %.1f", command.getAmount());
             logTransaction(user, account, command, description);
 
@@ -67,10 +65,9 @@ public final class CashWithdrawal implements ActionCommand {
     }
 
     private void logFailedTransaction(final User user, final Account account,
-                                      final CommandInput command, final String description) {
-        ObjectNode transaction = new TransactionBuilder()
+                                      final CommandInput command) {
+        Transaction transaction = new TransactionBuilder(TransactionKind.INSUFFICIENT_FUNDS)
                 .addTimestamp(command.getTimestamp())
-                .addDescription(description)
                 .build();
 
         user.getTransactionHandler().addTransaction(transaction);
@@ -79,7 +76,7 @@ public final class CashWithdrawal implements ActionCommand {
 
     private void logTransaction(final User user, final Account account,
                                 final CommandInput command, final String description) {
-        ObjectNode transaction = new TransactionBuilder()
+        Transaction transaction = new TransactionBuilder(TransactionKind.CASH_WITHDRAWAL)
                 .addTimestamp(command.getTimestamp())
                 .addDescription(description)
                 .addAmount(command.getAmount())
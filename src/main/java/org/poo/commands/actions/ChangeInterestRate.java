@@ -1,10 +1,11 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.exceptions.AccountNotFoundException;
 import org.poo.exceptions.AccountTypeException;
 import org.poo.fileio.CommandInput;
 import org.poo.models.Account;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.main.App;
 import org.poo.models.User;
 import org.poo.utils.CommandUtils;
@@ -37,7 +38,7 @@ public final class ChangeInterestRate implements ActionCommand {
 
             String description = String.format("Interest rate of the account changed to %.2f",
                     command.getInterestRate());
-            ObjectNode transaction = new TransactionBuilder()
+            Transaction transaction = new TransactionBuilder(TransactionKind.NOTICE)
                     .addTimestamp(command.getTimestamp()).addDescription(description).build();
             account.getTransactionHandler().addTransaction(transaction);
             user.getTransactionHandler().addTransaction(transaction);
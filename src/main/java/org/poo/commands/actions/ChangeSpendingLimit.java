@@ -5,6 +5,7 @@ import org.poo.exceptions.RoleException;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.AccountType;
 import org.poo.models.roles.Role;
 import org.poo.utils.CommandUtils;
 
@@ -27,7 +28,7 @@ public final class ChangeSpendingLimit implements ActionCommand {
         try {
             Account account = app.getDataContainer().getAccountMap().get(command.getAccount());
 
-            if (!account.getType().equals("business")) {
+            if (account.getType() != AccountType.BUSINESS) {
                 throw new AccountTypeException("This is not a business account");
             }
 
@@ -1,10 +1,11 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.exceptions.CardNotFoundException;
 import org.poo.fileio.CommandInput;
 import org.poo.models.Account;
 import org.poo.models.Card;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.main.App;
 import org.poo.models.User;
 import org.poo.utils.CommandUtils;
@@ -46,9 +47,7 @@ public final class CheckCardStatus implements ActionCommand {
 
                 // Log a transaction if the balance equals the minimum balance
                 if (account.getBalance() == account.getMinBalance()) {
-                    String description = "You have reached the minimum amount of funds, "
-                            + "the card will be frozen";
-                    logTransaction(user, account, command, description);
+                    logTransaction(user, account, command);
                 }
             }
         } catch (CardNotFoundException e) {
@@ -64,10 +63,9 @@ public final class CheckCardStatus implements ActionCommand {
     }
 
     private void logTransaction(final User user, final Account account,
-                                final CommandInput command, final String description) {
-        ObjectNode transaction = new TransactionBuilder()
-                .addTimestamp(command.getTimestamp())
-                .addDescription(description).build();
+                                final CommandInput command) {
+        Transaction transaction = new TransactionBuilder(TransactionKind.MINIMUM_FUNDS_REACHED)
+                .addTimestamp(command.getTimestamp()).build();
         user.getTransactionHandler().addTransaction(transaction);
         account.getTransactionHandler().addTransaction(transaction);
     }
@@ -1,11 +1,12 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.fileio.CommandInput;
 import org.poo.models.Account;
 import org.poo.models.Card;
 import org.poo.main.App;
 import org.poo.models.CardFactory;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
 import org.poo.utils.TransactionBuilder;
 
@@ -42,13 +43,10 @@ public final class CreateCard implements ActionCommand {
                                  final App app, final CommandInput command) {
         account.getCards().add(card);
         user.getAccountCardMap().put(card.getCardNumber(), account);
-        app.getDataContainer().getUserCardMap().put(card.getCardNumber(), user);
-        app.getDataContainer().getAccountCardMap().put(card.getCardNumber(), account);
-        app.getDataContainer().getCardMap().put(card.getCardNumber(), card);
+        app.getDataContainer().addCard(card, account, user);
 
-        ObjectNode transaction = new TransactionBuilder()
+        Transaction transaction = new TransactionBuilder(TransactionKind.NEW_CARD)
                 .addTimestamp(command.getTimestamp())
-                .addDescription("New card created")
                 .addCard(card.getCardNumber())
                 .addCardHolder(user.getEmail())
                 .addAccount(account.getIban()).build();
@@ -1,15 +1,19 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.commerciants.Commerciant;
+import org.poo.data.DataContainer;
 import org.poo.exceptions.CardNotFoundException;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.AccountType;
 import org.poo.models.BusinessAccount;
 import org.poo.models.Card;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
 import org.poo.plans.AccountPlanFactory;
+import org.poo.plans.PlanTier;
 import org.poo.utils.CommandUtils;
 import org.poo.utils.TransactionBuilder;
 import org.poo.utils.Utils;
@@ -38,9 +42,10 @@ public final class PayOnline implements ActionCommand {
             }
 
             User user = app.getDataContainer().getEmailMap().get(command.getEmail());
-            Account account = app.getDataContainer().getAccountCardMap()
-                    .get(command.getCardNumber());
-            Card card = app.getDataContainer().getCardMap().get(command.getCardNumber());
+            DataContainer.CardEntry entry = app.getDataContainer()
+                    .findCard(command.getCardNumber());
+            Account account = entry.account();
+            Card card = entry.card();
 
             if (account == null || card == null) {
                 throw new CardNotFoundException("Card not found");
@@ -49,7 +54,7 @@ public final class PayOnline implements ActionCommand {
             double amountToPay = calculateAmount(app, command, account);
 
             // Perform additional checks for business accounts
-            if (account.getType().equals("business")) {
+            if (account.getType() == AccountType.BUSINESS) {
                 if (account.getRole(command.getEmail()) == null) {
                     throw new CardNotFoundException("Card not found");
                 }
@@ -80,13 +85,7 @@ public final class PayOnline implements ActionCommand {
                                 final double amountToPay) {
         // Check if the card is active
         if (!card.getStatus().equals("active")) {
-            logTransaction(user, account, command, "The card is frozen", 0, null);
-            return;
-        }
-
-        // Check if the account has sufficient funds
-        if (account.getBalance() < amountToPay) {
-            logTransaction(user, account, command, "Insufficient funds", 0, null);
+            logTransaction(user, account, command, TransactionKind.FROZEN_CARD, 0, null);
             return;
         }
 
@@ -97,16 +96,20 @@ public final class PayOnline implements ActionCommand {
                 .getTransactionFee(app, amountInRON);
         transactionFee *= amountToPay;
 
-        account.setBalance(account.getBalance() - (amountToPay + transactionFee));
+        // Debit the payment and its fee if the account has sufficient funds for the payment
+        if (!account.getBalanceCell().tryDebit(amountToPay + transactionFee, amountToPay)) {
+            logTransaction(user, account, command, TransactionKind.INSUFFICIENT_FUNDS, 0, null);
+            return;
+        }
 
         // Try to apply cashback
         applyCashback(app, user, account, command.getCommerciant(), amountInRON);
 
-        logTransaction(user, account, command, "Card payment", amountToPay,
+        logTransaction(user, account, command, TransactionKind.CARD_PAYMENT, amountToPay,
                 command.getCommerciant());
 
         // Add commerciant transaction details for business accounts
-        if (account.getType().equals("business")) {
+        if (account.getType() == AccountType.BUSINESS) {
             BusinessAccount acc = (BusinessAccount) account;
             acc.addCommerciantTransaction(command.getCommerciant(), command.getEmail(),
                     amountToPay);
@@ -129,25 +132,25 @@ public final class PayOnline implements ActionCommand {
 
         if (commerciant != null) {
             commerciant.getStrategy().applyCashback(app, user, account,
-                    commerciant.getType(), amountInRON, commerciant);
+                    commerciant.getCategory(), amountInRON, commerciant);
         }
     }
 
     // Handles automatic account plan upgrades based on the user's transactions
     private void handlePlanUpgrade(final App app, final User user, final Account account,
                                    final double amountInRON, final CommandInput command) {
-        if (user.getAccountPlan().getPlanName().equals("silver")) {
+        if (user.getAccountPlan().getTier() == PlanTier.SILVER) {
             if (amountInRON >= SILVER_TRANSACTION) {
                 account.setSilverTransactions(account.getSilverTransactions() + 1);
             }
             if (user.getAccountPlan().automaticUpgrade(account.getSilverTransactions())) {
-                user.setAccountPlan(AccountPlanFactory.createPlan("gold"));
+                user.setAccountPlan(AccountPlanFactory.createPlan(app.getCashbackRules(),
+                        PlanTier.GOLD));
 
-                ObjectNode transaction = new TransactionBuilder()
+                Transaction transaction = new TransactionBuilder(TransactionKind.UPGRADE_PLAN)
                         .addTimestamp(command.getTimestamp())
-                        .addDescription("Upgrade plan")
                         .addAccountIBAN(account.getIban())
-                        .addNewPlanType("gold").build();
+                        .addNewPlanType(PlanTier.GOLD.getPlanName()).build();
 
                 user.getTransactionHandler().addTransaction(transaction);
                 account.getTransactionHandler().addTransaction(transaction);
@@ -162,19 +165,17 @@ public final class PayOnline implements ActionCommand {
         String oldCardNumber = card.getCardNumber();
         String newCardNumber = Utils.generateCardNumber();
 
-        ObjectNode destroyTransaction = new TransactionBuilder()
+        Transaction destroyTransaction = new TransactionBuilder(TransactionKind.CARD_DESTROYED)
                 .addTimestamp(command.getTimestamp())
-                .addDescription("The card has been destroyed")
                 .addCard(oldCardNumber).addCardHolder(user.getEmail())
                 .addAccount(account.getIban()).build();
 
-        ObjectNode replaceTransaction = new TransactionBuilder()
-                .addTimestamp(command.getTimestamp())
-                .addDescription("New card created").addCard(newCardNumber)
+        Transaction replaceTransaction = new TransactionBuilder(TransactionKind.NEW_CARD)
+                .addTimestamp(command.getTimestamp()).addCard(newCardNumber)
                 .addCardHolder(user.getEmail())
                 .addAccount(account.getIban()).build();
 
-        updateCardMappings(app, user, card, account, oldCardNumber, newCardNumber);
+        app.getDataContainer().replaceCardNumber(card, newCardNumber, account, user);
 
         account.getTransactionHandler().addTransaction(destroyTransaction);
         account.getTransactionHandler().addTransaction(replaceTransaction);
@@ -182,36 +183,22 @@ public final class PayOnline implements ActionCommand {
         user.getTransactionHandler().addTransaction(replaceTransaction);
     }
 
-    // Updates card mappings in the system to reflect the new card number
-    private void updateCardMappings(final App app, final User user, final Card card,
-                                    final Account account, final String oldCardNumber,
-                                    final String newCardNumber) {
-        app.getDataContainer().getCardMap().remove(oldCardNumber);
-        app.getDataContainer().getUserCardMap().remove(oldCardNumber);
-        app.getDataContainer().getAccountCardMap().remove(oldCardNumber);
-
-        card.setCardNumber(newCardNumber);
-        app.getDataContainer().getCardMap().put(newCardNumber, card);
-        app.getDataContainer().getUserCardMap().put(newCardNumber, user);
-        app.getDataContainer().getAccountCardMap().put(newCardNumber, account);
-    }
-
     // Logs a transaction for the user and account
     private void logTransaction(final User user, final Account account,
-                                final CommandInput command, final String description,
+                                final CommandInput command, final TransactionKind kind,
                                 final double amount, final String commerciant) {
-        ObjectNode transaction = new TransactionBuilder()
-                .addTimestamp(command.getTimestamp()).addDescription(description)
-                .build();
+        TransactionBuilder builder = new TransactionBuilder(kind)
+                .addTimestamp(command.getTimestamp());
 
         if (amount > 0) {
-            transaction.put("amount", amount);
+            builder.addAmount(amount);
         }
 
         if (commerciant != null) {
-            transaction.put("commerciant", commerciant);
+            builder.addCommerciant(commerciant);
         }
 
+        Transaction transaction = builder.build();
         user.getTransactionHandler().addTransaction(transaction);
         account.getTransactionHandler().addTransaction(transaction);
     }
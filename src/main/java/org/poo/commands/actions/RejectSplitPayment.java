@@ -1,13 +1,13 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.exceptions.UserNotFoundException;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
+import org.poo.split.SplitLink;
 import org.poo.split.SplitPaymentRequest;
 import org.poo.utils.CommandUtils;
 import org.poo.utils.TransactionBuilder;
@@ -32,13 +32,14 @@ public final class RejectSplitPayment implements ActionCommand {
             }
 
             String requestedType = command.getSplitPaymentType();
-            SplitPaymentRequest req = user.getNextRequestOfType(requestedType);
+            SplitLink link = user.getNextRequestOfType(requestedType);
 
-            if (req == null) {
+            if (link == null) {
                 return;
             }
+            SplitPaymentRequest req = link.getRequest();
             // Mark the request as rejected and update the system
-            req.reject(user);
+            req.reject(link);
             processPayment(app, req);
             removeSplitPaymentFromSystem(app, req);
         } catch (UserNotFoundException e) {
@@ -48,69 +49,35 @@ public final class RejectSplitPayment implements ActionCommand {
 
     // Logs the split payment rejection
     private void processPayment(final App app, final SplitPaymentRequest req) {
-        ArrayNode amountsNode = buildAmountsNode(req);
-        ArrayNode accountsNode = buildAccountsNode(req);
-
         String description = String.format("Split payment of %.2f %s",
                 req.getTotal(), req.getCurrency());
         String error = "One user rejected the payment.";
 
-        ObjectNode transaction = buildTransaction(req, description, amountsNode,
-                    accountsNode, error);
+        Transaction transaction = buildTransaction(req, description, error);
         logTransaction(app, req, transaction);
     }
 
     // Removes the split payment request from the system after rejection
     private void removeSplitPaymentFromSystem(final App app, final SplitPaymentRequest req) {
         app.getActiveSplitPayments().remove(req);
-        for (String iban : req.getAccounts()) {
-            User user = app.getDataContainer().getUserAccountMap().get(iban);
-            if (user != null) {
-                user.getActivePaymentRequests().remove(req);
-            }
-        }
-    }
-
-    private ArrayNode buildAmountsNode(final SplitPaymentRequest req) {
-        ObjectMapper mapper = new ObjectMapper();
-        ArrayNode amountsNode = mapper.createArrayNode();
-
-        if (req.getAmounts() != null) {
-            for (Double amount : req.getAmounts()) {
-                amountsNode.add(amount);
-            }
-        }
-        return amountsNode;
-    }
-
-    private ArrayNode buildAccountsNode(final SplitPaymentRequest req) {
-        ObjectMapper mapper = new ObjectMapper();
-        ArrayNode accountsNode = mapper.createArrayNode();
-
-        if (req.getAccounts() != null) {
-            for (String iban : req.getAccounts()) {
-                accountsNode.add(iban);
-            }
-        }
-        return accountsNode;
+        req.withdraw();
     }
 
-    private ObjectNode buildTransaction(final SplitPaymentRequest req, final String description,
-                                        final ArrayNode amountsNode, final ArrayNode accountsNode,
-                                        final String error) {
-        TransactionBuilder builder = new TransactionBuilder()
+    private Transaction buildTransaction(final SplitPaymentRequest req, final String description,
+                                         final String error) {
+        TransactionBuilder builder = new TransactionBuilder(TransactionKind.SPLIT_PAYMENT)
                 .addTimestamp(req.getTimestamp())
                 .addDescription(description)
                 .addSplitType(req.getType())
                 .addCurrency(req.getCurrency());
 
         if ("custom".equals(req.getType())) {
-            builder.addAmounts(amountsNode);
+            builder.addAmounts(req.getAmounts());
         } else {
             builder.addAmount(req.getAmounts().getFirst());
         }
 
-        builder.addInvolvedAccounts(accountsNode);
+        builder.addInvolvedAccounts(req.getAccounts());
 
         if (error != null && !error.isEmpty()) {
             builder.addError(error);
@@ -120,7 +87,7 @@ public final class RejectSplitPayment implements ActionCommand {
     }
 
     private void logTransaction(final App app, final SplitPaymentRequest req,
-                                final ObjectNode transaction) {
+                                final Transaction transaction) {
         for (String iban : req.getAccounts()) {
             User user = app.getDataContainer().getUserAccountMap().get(iban);
             Account account = app.getDataContainer().getAccountMap().get(iban);
@@ -1,11 +1,12 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.commerciants.Commerciant;
 import org.poo.exceptions.UserNotFoundException;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
 import org.poo.utils.CommandUtils;
 import org.poo.utils.TransactionBuilder;
@@ -68,19 +69,15 @@ public final class SendMoney implements ActionCommand {
             double transactionFee = senderUser.getAccountPlan()
                     .getTransactionFee(app, amountInRon) * command.getAmount();
 
-            // Check if the sender has sufficient funds
-            if (senderAccount.getBalance() < command.getAmount() + transactionFee) {
+            // Deduct the amount and transaction fee if the sender has sufficient funds
+            if (!senderAccount.getBalanceCell().tryDebit(command.getAmount() + transactionFee)) {
                 logInsufficientFunds(senderUser, senderAccount, command);
                 return;
             }
 
-            // Deduct the amount and transaction fee from sender's account
-            senderAccount.setBalance(senderAccount.getBalance()
-                    - (command.getAmount() + transactionFee));
-
             if (!onlinePayment) {
                 // Update the receiver's account balance it is not an online payment
-                receiverAccount.setBalance(receiverAccount.getBalance() + amountReceived);
+                receiverAccount.getBalanceCell().credit(amountReceived);
                 User receiverUser = app.getDataContainer().getUserAccountMap()
                         .get(receiverAccount.getIban());
                 logSuccessfulTransaction(senderUser, senderAccount, receiverUser,
@@ -95,7 +92,7 @@ public final class SendMoney implements ActionCommand {
             Commerciant commerciant = app.getDataContainer().getCommerciantAccountMap()
                     .get(command.getReceiver());
             commerciant.getStrategy().applyCashback(app, senderUser, senderAccount,
-                    commerciant.getType(), command.getAmount(), commerciant);
+                    commerciant.getCategory(), command.getAmount(), commerciant);
         } catch (UserNotFoundException e) {
             CommandUtils.addErrorToOutput(app.getOutput(), command, e.getMessage());
         }
@@ -104,9 +101,8 @@ public final class SendMoney implements ActionCommand {
     // Logs a transaction for insufficient funds in the sender's account
     private void logInsufficientFunds(final User user, final Account account,
                                       final CommandInput command) {
-        ObjectNode transaction = new TransactionBuilder()
-                .addTimestamp(command.getTimestamp())
-                .addDescription("Insufficient funds").build();
+        Transaction transaction = new TransactionBuilder(TransactionKind.INSUFFICIENT_FUNDS)
+                .addTimestamp(command.getTimestamp()).build();
         user.getTransactionHandler().addTransaction(transaction);
         account.getTransactionHandler().addTransaction(transaction);
     }
@@ -115,24 +111,23 @@ public final class SendMoney implements ActionCommand {
     private void logSuccessfulTransaction(final User senderUser, final Account sender,
                                           final User receiverUser, final Account receiver,
                                           final CommandInput command, final double amount) {
-        String amountSent = command.getAmount() + " " + sender.getCurrency();
-        String amountReceived = amount + " " + receiver.getCurrency();
-
         // Create and log transaction details for the sender
-        ObjectNode sentTransaction = new TransactionBuilder()
+        Transaction sentTransaction = new TransactionBuilder(TransactionKind.TRANSFER)
                 .addTimestamp(command.getTimestamp())
                 .addDescription(command.getDescription())
                 .addSenderIBAN(sender.getIban())
                 .addReceiverIBAN(receiver.getIban())
-                .addAmount(amountSent).addTransferType("sent").build();
+                .addAmount(command.getAmount()).addCurrency(sender.getCurrency())
+                .addTransferType("sent").build();
 
         // Create and log transaction details for the receiver
-        ObjectNode receivedTransaction = new TransactionBuilder()
+        Transaction receivedTransaction = new TransactionBuilder(TransactionKind.TRANSFER)
                 .addTimestamp(command.getTimestamp())
                 .addDescription(command.getDescription())
                 .addSenderIBAN(sender.getIban())
                 .addReceiverIBAN(receiver.getIban())
-                .addAmount(amountReceived).addTransferType("received").build();
+                .addAmount(amount).addCurrency(receiver.getCurrency())
+                .addTransferType("received").build();
 
         senderUser.getTransactionHandler().addTransaction(sentTransaction);
         sender.getTransactionHandler().addTransaction(sentTransaction);
@@ -143,13 +138,13 @@ public final class SendMoney implements ActionCommand {
     // Logs a transaction for online payments
     private void logTransaction(final User user, final Account account,
                                 final CommandInput command) {
-        String amount = String.format("%.1f %s", command.getAmount(), account.getCurrency());
-        ObjectNode transaction = new TransactionBuilder()
+        Transaction transaction = new TransactionBuilder(TransactionKind.COMMERCIANT_TRANSFER)
                 .addTimestamp(command.getTimestamp())
                 .addDescription(command.getDescription())
                 .addSenderIBAN(account.getIban())
                 .addReceiverIBAN(command.getReceiver())
-                .addAmount(amount).addTransferType("sent").build();
+                .addAmount(command.getAmount()).addCurrency(account.getCurrency())
+                .addTransferType("sent").build();
         user.getTransactionHandler().addTransaction(transaction);
         account.getTransactionHandler().addTransaction(transaction);
     }
@@ -26,7 +26,7 @@ public final class SetAlias implements ActionCommand {
         account.setAlias(command.getAlias());
 
         // Update the system mappings to include the alias
-        app.getDataContainer().getAccountMap().put(account.getAlias(), account);
+        app.getDataContainer().addAlias(account.getAlias(), account);
         user.getAccountMap().put(account.getAlias(), account);
     }
 }
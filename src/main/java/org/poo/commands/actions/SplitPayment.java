@@ -11,17 +11,15 @@ public final class SplitPayment implements ActionCommand {
 
     /**
      * Executes the split payment command.
-     * Creates a new split payment request and adds it to the application's
-     * queue of active split payments
+     * Creates a new split payment request and registers it with the application's
+     * active split payments
      * @param app     The application context
      * @param command The input containing details for the split payment request
      */
     @Override
     public void execute(final App app, final CommandInput command) {
-        // Create a new split payment request based on the command
+        // Create a new split payment request based on the command; its id is new
         SplitPaymentRequest req = new SplitPaymentRequest(app, command);
-        if (!app.getActiveSplitPayments().contains(req)) {
-            app.addSplitPayment(req);
-        }
+        app.addSplitPayment(req);
     }
 }
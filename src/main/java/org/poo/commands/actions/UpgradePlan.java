@@ -1,18 +1,18 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.exceptions.AccountNotFoundException;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
 import org.poo.plans.AccountPlan;
 import org.poo.plans.AccountPlanFactory;
+import org.poo.plans.PlanTier;
 import org.poo.utils.CommandUtils;
 import org.poo.utils.TransactionBuilder;
 
-import static org.poo.utils.Constants.*;
-
 /**
  * Command for upgrading the account plan of a user
  * Handles the validation, fee calculation, and upgrade process for user account plans
@@ -39,15 +39,16 @@ public final class UpgradePlan implements ActionCommand {
             // Get the current and desired account plan
             AccountPlan currentPlan = user.getAccountPlan();
             String desiredPlan = command.getNewPlanType();
+            PlanTier desiredTier = PlanTier.fromName(desiredPlan);
             StringBuilder error = new StringBuilder();
 
             // Calculate the fee for upgrading to the desired plan
-            double upgradeFee = calculateUpgradeFee(currentPlan, desiredPlan, error);
-            ObjectNode transaction;
+            double upgradeFee = calculateUpgradeFee(currentPlan, desiredTier, error);
+            Transaction transaction;
 
             // Handle invalid upgrade scenarios
             if (upgradeFee < 0) {
-                transaction = new TransactionBuilder()
+                transaction = new TransactionBuilder(TransactionKind.NOTICE)
                         .addTimestamp(command.getTimestamp())
                         .addDescription(error.toString()).build();
                 user.getTransactionHandler().addTransaction(transaction);
@@ -58,23 +59,21 @@ public final class UpgradePlan implements ActionCommand {
             double amountToPay = upgradeFee * app.getExchangeGraph()
                     .findExchangeRate("RON", account.getCurrency());
 
-            // Check if the account has sufficient funds for the upgrade
-            if (account.getBalance() < amountToPay) {
-                transaction = new TransactionBuilder()
-                        .addTimestamp(command.getTimestamp())
-                        .addDescription("Insufficient funds").build();
+            // Deduct the upgrade fee if the account has sufficient funds for the upgrade
+            if (!account.getBalanceCell().tryDebit(amountToPay)) {
+                transaction = new TransactionBuilder(TransactionKind.INSUFFICIENT_FUNDS)
+                        .addTimestamp(command.getTimestamp()).build();
                 user.getTransactionHandler().addTransaction(transaction);
                 account.getTransactionHandler().addTransaction(transaction);
                 return;
             }
 
-            // Deduct the upgrade fee from the account balance and set the new account plan
-            account.setBalance(account.getBalance() - amountToPay);
-            user.setAccountPlan(AccountPlanFactory.createPlan(desiredPlan));
+            // Set the new account plan
+            user.setAccountPlan(AccountPlanFactory.createPlan(app.getCashbackRules(),
+                    desiredTier));
 
-            transaction = new TransactionBuilder()
+            transaction = new TransactionBuilder(TransactionKind.UPGRADE_PLAN)
                     .addTimestamp(command.getTimestamp())
-                    .addDescription("Upgrade plan")
                     .addAccountIBAN(command.getAccount())
                     .addNewPlanType(desiredPlan).build();
 
@@ -85,40 +84,30 @@ public final class UpgradePlan implements ActionCommand {
         }
     }
 
-    // Calculates the fee required to upgrade to the desired account plan
-    private double calculateUpgradeFee(final AccountPlan current, final String desiredPlan,
+    // Calculates the fee required to upgrade to the desired account plan, -1 if it is unknown
+    private double calculateUpgradeFee(final AccountPlan current, final PlanTier desiredTier,
                                        final StringBuilder error) {
-        String currentPlan = current.getPlanName();
-
-        // Define upgrade fees based on the current and desired plans
-        if (currentPlan.equals("standard") || currentPlan.equals("student")) {
-            if (desiredPlan.equals("silver")) {
-                return SILVER_UPGRADE_FEE;
-            } else if (desiredPlan.equals("gold")) {
-                return GOLD_UPGRADE_FROM_STANDARD;
-            }
-        } else if (currentPlan.equals("silver")) {
-            if (desiredPlan.equals("gold")) {
-                return GOLD_UPGRADE_FROM_SILVER;
-            }
+        if (desiredTier == null) {
+            return -1;
         }
+        PlanTier currentTier = current.getTier();
 
-        // Handle invalid downgrade scenarios
-        if (currentPlan.equals("silver")
-                && (desiredPlan.equals("standard") || desiredPlan.equals("student"))) {
-            error.append("You cannot downgrade your plan.");
-            return -1;
+        // Look the fee up in the matrix of upgrades between the current and desired plans
+        double fee = currentTier.getUpgradeFee(desiredTier);
+        if (fee >= 0) {
+            return fee;
         }
 
-        if (currentPlan.equals("gold") && (desiredPlan.equals("standard")
-                || desiredPlan.equals("student") || desiredPlan.equals("silver"))) {
+        // Handle invalid downgrade scenarios
+        if (currentTier.isAbove(desiredTier)) {
             error.append("You cannot downgrade your plan.");
             return -1;
         }
 
         // Handle scenarios where the user already has the desired plan
-        if (currentPlan.equals(desiredPlan)) {
-            error.append("The user already has the ").append(desiredPlan).append(" plan.");
+        if (currentTier == desiredTier) {
+            error.append("The user already has the ").append(desiredTier.getPlanName())
+                    .append(" plan.");
         }
         return -1;
     }
@@ -1,11 +1,13 @@
 package org.poo.commands.actions;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.exceptions.AccountNotFoundException;
 import org.poo.exceptions.AccountTypeException;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.AccountType;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
 import org.poo.utils.CommandUtils;
 import org.poo.utils.TransactionBuilder;
@@ -39,14 +41,14 @@ public final class WithdrawSavings implements ActionCommand {
             // Validate the minimum age requirement
             if (user.getAge() < MINIMUM_AGE) {
                 logFailedTransaction(user, account,
-                        command, "You don't have the minimum age required.");
+                        command, TransactionKind.MINIMUM_AGE_NOT_MET);
                 return;
             }
 
             Account receiver = null;
             // Find a classic account with the specified currency
             for (Account acc : user.getAccounts()) {
-                if (acc.getType().equals("classic") && acc.getCurrency()
+                if (acc.getType() == AccountType.CLASSIC && acc.getCurrency()
                         .equals(command.getCurrency())) {
                     receiver = acc;
                     break;
@@ -54,20 +56,18 @@ public final class WithdrawSavings implements ActionCommand {
             }
 
             if (receiver == null) {
-                logFailedTransaction(user, account, command, "You do not have a classic account.");
+                logFailedTransaction(user, account, command, TransactionKind.NO_CLASSIC_ACCOUNT);
                 return;
             }
 
             double amountToWithdraw = command.getAmount() * app.getExchangeGraph()
                     .findExchangeRate(command.getCurrency(), account.getCurrency());
 
-            if (account.getBalance() < amountToWithdraw) {
-                logFailedTransaction(user, account, command, "Insufficient funds");
+            if (!account.getBalanceCell().tryDebit(amountToWithdraw)) {
+                logFailedTransaction(user, account, command, TransactionKind.INSUFFICIENT_FUNDS);
                 return;
             }
-
-            account.setBalance(account.getBalance() - amountToWithdraw);
-            receiver.setBalance(receiver.getBalance() + command.getAmount());
+            receiver.getBalanceCell().credit(command.getAmount());
 
             logTransaction(user, account, receiver, command);
         } catch (AccountNotFoundException | AccountTypeException e) {
@@ -77,9 +77,9 @@ public final class WithdrawSavings implements ActionCommand {
 
     // Logs a failed transaction in the user's transaction history
     private void logFailedTransaction(final User user, final Account account,
-                                      final CommandInput command, final String description) {
-        ObjectNode transaction = new TransactionBuilder()
-                .addTimestamp(command.getTimestamp()).addDescription(description).build();
+                                      final CommandInput command, final TransactionKind kind) {
+        Transaction transaction = new TransactionBuilder(kind)
+                .addTimestamp(command.getTimestamp()).build();
         user.getTransactionHandler().addTransaction(transaction);
         account.getTransactionHandler().addTransaction(transaction);
     }
@@ -87,8 +87,8 @@ public final class WithdrawSavings implements ActionCommand {
     // Logs a successful savings withdrawal transaction
     private void logTransaction(final User user, final Account savingsAcc,
                                 final Account receiverAcc, final CommandInput command) {
-        ObjectNode transaction = new TransactionBuilder()
-                .addTimestamp(command.getTimestamp()).addDescription("Savings withdrawal")
+        Transaction transaction = new TransactionBuilder(TransactionKind.SAVINGS_WITHDRAWAL)
+                .addTimestamp(command.getTimestamp())
                 .addSavingsIBAN(savingsAcc.getIban()).addClassicIBAN(receiverAcc.getIban())
                 .addAmount(command.getAmount()).build();
 
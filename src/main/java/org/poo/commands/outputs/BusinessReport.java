@@ -1,18 +1,18 @@
 package org.poo.commands.outputs;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.AssociatePayments;
 import org.poo.models.BusinessAccount;
 import org.poo.models.User;
 import org.poo.models.roles.Role;
+import org.poo.models.roles.RoleType;
 import org.poo.utils.JsonUtils;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,9 +44,8 @@ public final class BusinessReport implements OutputCommand {
     the provided type */
     private ObjectNode generateReport(final App app, final BusinessAccount account,
                                       final CommandInput command, final String statisticsType) {
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode outputNode = mapper.createObjectNode();
-        ObjectNode details = mapper.createObjectNode();
+        ObjectNode outputNode = JsonNodeFactory.instance.objectNode();
+        ObjectNode details = JsonNodeFactory.instance.objectNode();
 
         outputNode.put("command", command.getCommand());
 
@@ -71,9 +70,8 @@ public final class BusinessReport implements OutputCommand {
     // Generates transaction statistics for a business account
     private void generateTransactionStatistics(final App app, final BusinessAccount account,
                                                final ObjectNode details) {
-        ObjectMapper mapper = new ObjectMapper();
-        ArrayNode managersArray = mapper.createArrayNode();
-        ArrayNode employeesArray = mapper.createArrayNode();
+        ArrayNode managersArray = JsonNodeFactory.instance.arrayNode();
+        ArrayNode employeesArray = JsonNodeFactory.instance.arrayNode();
 
         double totalSpent = 0.0;
         double totalDeposited = 0.0;
@@ -82,23 +80,23 @@ public final class BusinessReport implements OutputCommand {
             String email = entry.getKey();
             Role role = entry.getValue();
 
-            double spent = account.getSpentByUser().getOrDefault(email, 0.0);
-            double deposited = account.getDepositedByUser().getOrDefault(email, 0.0);
+            double spent = account.getSpentByUser(email);
+            double deposited = account.getDepositedByUser(email);
 
             User user = app.getDataContainer().getEmailMap().get(email);
             String username = user.getLastName() + " " + user.getFirstName();
-            ObjectNode userNode = mapper.createObjectNode();
+            ObjectNode userNode = JsonNodeFactory.instance.objectNode();
             userNode.put("username", username);
             userNode.put("spent", spent);
             userNode.put("deposited", deposited);
 
-            if ("manager".equals(role.getType())) {
+            if (role.getType() == RoleType.MANAGER) {
                 managersArray.add(userNode);
-            } else if ("employee".equals(role.getType())) {
+            } else if (role.getType() == RoleType.EMPLOYEE) {
                 employeesArray.add(userNode);
             }
 
-            if (!"owner".equals(role.getType())) {
+            if (role.getType() != RoleType.OWNER) {
                 totalSpent += spent;
                 totalDeposited += deposited;
             }
@@ -113,29 +111,30 @@ public final class BusinessReport implements OutputCommand {
     // Generates commerciant statistics for a business account
     private void generateCommerciantStatistics(final App app, final BusinessAccount account,
                                                final ObjectNode details) {
-        ObjectMapper mapper = new ObjectMapper();
-        ArrayNode commerciantsArray = mapper.createArrayNode();
-
-        account.getCommerciantTotals().entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEach(entry -> {
-                    String commerciant = entry.getKey();
-                    double totalReceived = entry.getValue();
-                    List<String> users = account.getCommerciantUsers()
-                            .getOrDefault(commerciant, new ArrayList<>());
-
-                    ObjectNode commerciantNode = mapper.createObjectNode();
+        ArrayNode commerciantsArray = JsonNodeFactory.instance.arrayNode();
+
+        account.getCommerciantTotals().getNames().stream()
+                .sorted()
+                .forEach(commerciant -> {
+                    double totalReceived = account.getCommerciantTotal(commerciant);
+                    AssociatePayments users = account.getCommerciantUsers().get(commerciant);
+
+                    ObjectNode commerciantNode = JsonNodeFactory.instance.objectNode();
                     commerciantNode.put("commerciant", commerciant);
                     commerciantNode.put("total received", totalReceived);
 
-                    ArrayNode managersArray = mapper.createArrayNode();
-                    ArrayNode employeesArray = mapper.createArrayNode();
+                    ArrayNode managersArray = JsonNodeFactory.instance.arrayNode();
+                    ArrayNode employeesArray = JsonNodeFactory.instance.arrayNode();
 
-                    for (String email : users) {
+                    // Every employee is listed once for each payment it made, in payment order
+                    for (int i = 0; users != null && i < users.size(); i++) {
+                        String email = account.getAssociate(users.getId(i));
                         User user = app.getDataContainer().getEmailMap().get(email);
-                        if (user != null && account.getRole(email).getType().equals("employee")) {
+                        if (user != null && account.getRole(email).getType() == RoleType.EMPLOYEE) {
                             String username = user.getLastName() + " " + user.getFirstName();
-                            employeesArray.add(username);
+                            for (int j = 0; j < users.getCount(i); j++) {
+                                employeesArray.add(username);
+                            }
                         }
                     }
 
@@ -1,10 +1,12 @@
 package org.poo.commands.outputs;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
 import org.poo.utils.TransactionBuilder;
 
@@ -24,21 +26,20 @@ public final class DeleteAccount implements OutputCommand {
      */
     @Override
     public ObjectNode execute(final App app, final CommandInput command) {
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode response = mapper.createObjectNode();
+        ObjectNode response = JsonNodeFactory.instance.objectNode();
 
         User user = app.getDataContainer().getEmailMap().get(command.getEmail());
         Account account = user.getAccountMap().get(command.getAccount());
 
         // Check if the account has a non-zero balance
         if (account.getBalance() > 0) {
-            logError(user, account, command, mapper);
-            return createErrorResponse(mapper, response, command);
+            logError(user, account, command);
+            return createErrorResponse(response, command);
         }
 
         // Delete the account and return a success response
         deleteAccount(app, user, account);
-        return createSuccessResponse(mapper, response, command);
+        return createSuccessResponse(response, command);
     }
 
     // Deletes the account from the user and system mappings
@@ -46,24 +47,22 @@ public final class DeleteAccount implements OutputCommand {
                                final Account account) {
         user.getAccounts().remove(account);
         user.getAccountMap().remove(account.getIban());
-        app.getDataContainer().getAccountMap().remove(account.getIban());
+        app.getDataContainer().removeAccount(account.getIban());
     }
 
     // Logs an error transaction for the user and account
-    private void logError(final User user, final Account account, final CommandInput command,
-                          final ObjectMapper mapper) {
-        ObjectNode errorTransaction = new TransactionBuilder()
+    private void logError(final User user, final Account account, final CommandInput command) {
+        Transaction errorTransaction = new TransactionBuilder(TransactionKind.ACCOUNT_NOT_DELETED)
                 .addTimestamp(command.getTimestamp())
-                .addDescription("Account couldn't be deleted - there are funds remaining")
                 .build();
         user.getTransactionHandler().addTransaction(errorTransaction);
         account.getTransactionHandler().addTransaction(errorTransaction);
     }
 
     // Creates an error response ObjectNode
-    private ObjectNode createErrorResponse(final ObjectMapper mapper, final ObjectNode response,
+    private ObjectNode createErrorResponse(final ObjectNode response,
                                            final CommandInput command) {
-        ObjectNode output = mapper.createObjectNode();
+        ObjectNode output = JsonNodeFactory.instance.objectNode();
 
         response.put("command", command.getCommand());
         output.put("error", "Account couldn't be deleted - see org.poo.transactions for details");
@@ -74,9 +73,9 @@ public final class DeleteAccount implements OutputCommand {
     }
 
     // Creates a success response ObjectNode
-    private ObjectNode createSuccessResponse(final ObjectMapper mapper, final ObjectNode response,
+    private ObjectNode createSuccessResponse(final ObjectNode response,
                                              final CommandInput command) {
-        ObjectNode output = mapper.createObjectNode();
+        ObjectNode output = JsonNodeFactory.instance.objectNode();
 
         response.put("command", command.getCommand());
         output.put("success", "Account deleted");
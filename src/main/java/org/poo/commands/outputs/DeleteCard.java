@@ -1,11 +1,12 @@
 package org.poo.commands.outputs;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.commands.actions.ActionCommand;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
 import org.poo.models.Card;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.models.User;
 import org.poo.utils.TransactionBuilder;
 
@@ -65,20 +66,15 @@ public final class DeleteCard implements ActionCommand {
     private void deleteCard(final App app, final User user, final Account account,
                             final Card card) {
         account.getCards().remove(card);
-        app.getDataContainer().getUserCardMap().remove(card.getCardNumber());
-        app.getDataContainer().getCardMap().remove(card.getCardNumber());
+        app.getDataContainer().removeCard(card.getCardNumber());
         user.getAccountCardMap().remove(card.getCardNumber());
-        app.getDataContainer().getAccountCardMap().remove(card.getCardNumber());
     }
 
     // Logs the card deletion as a transaction
     private void logCardDeletion(final User user, final Account account,
                                  final CommandInput command) {
-        String description = "The card has been destroyed";
-
-        ObjectNode transaction = new TransactionBuilder()
+        Transaction transaction = new TransactionBuilder(TransactionKind.CARD_DESTROYED)
                 .addTimestamp(command.getTimestamp())
-                .addDescription(description)
                 .addCard(command.getCardNumber())
                 .addCardHolder(user.getEmail())
                 .addAccount(account.getIban()).build();
@@ -1,11 +1,12 @@
 package org.poo.commands.outputs;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.User;
+import org.poo.utils.JsonUtils;
 
 /**
  * Command for printing a user's transactions
@@ -24,14 +25,14 @@ public final class PrintTransactions implements OutputCommand {
     @Override
     public ObjectNode execute(final App app, final CommandInput command) {
         User user = app.getDataContainer().getEmailMap().get(command.getEmail());
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode outputNode = mapper.createObjectNode();
+        ObjectNode outputNode = JsonNodeFactory.instance.objectNode();
 
         outputNode.put("command", command.getCommand());
 
         // Filter the user's transactions based on the given timestamp
-        ArrayNode filteredTransactions = user.getTransactionHandler()
-                .filterAndSortTransactionsByTimestamp(command.getTimestamp());
+        ArrayNode filteredTransactions = JsonUtils.createTransactions(user
+                .getTransactionHandler()
+                .filterAndSortTransactionsByTimestamp(command.getTimestamp()));
         outputNode.set("output", filteredTransactions);
 
         outputNode.put("timestamp", command.getTimestamp());
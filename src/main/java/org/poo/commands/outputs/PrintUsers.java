@@ -1,7 +1,7 @@
 package org.poo.commands.outputs;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
@@ -23,9 +23,8 @@ public final class PrintUsers implements OutputCommand {
      */
     @Override
     public ObjectNode execute(final App app, final CommandInput command) {
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode outputNode = mapper.createObjectNode();
-        ArrayNode usersArray = mapper.createArrayNode();
+        ObjectNode outputNode = JsonNodeFactory.instance.objectNode();
+        ArrayNode usersArray = JsonNodeFactory.instance.arrayNode();
 
         outputNode.put("command", command.getCommand());
 
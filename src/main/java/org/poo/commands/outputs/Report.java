@@ -1,10 +1,10 @@
 package org.poo.commands.outputs;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.fileio.CommandInput;
 import org.poo.models.Account;
+import org.poo.models.Transaction;
 import org.poo.main.App;
 import org.poo.utils.JsonUtils;
 
@@ -35,9 +35,8 @@ public final class Report implements OutputCommand {
 
     // Generates the account report including account details and filtered transactions
     private ObjectNode generateReport(final Account account, final CommandInput command) {
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode outputNode = mapper.createObjectNode();
-        ObjectNode details = mapper.createObjectNode();
+        ObjectNode outputNode = JsonNodeFactory.instance.objectNode();
+        ObjectNode details = JsonNodeFactory.instance.objectNode();
 
         outputNode.put("command", command.getCommand());
         details.put("IBAN", account.getIban());
@@ -45,13 +44,10 @@ public final class Report implements OutputCommand {
         details.put("currency", account.getCurrency());
 
         // Filter transactions by the provided time interval
-        List<ObjectNode> transactions = account.getTransactionHandler()
+        List<Transaction> transactions = account.getTransactionHandler()
                 .filterTransactionsByInterval(command.getStartTimestamp(),
                         command.getEndTimestamp());
-
-        ArrayNode transactionsArray = mapper.createArrayNode();
-        transactions.forEach(transactionsArray::add);
-        details.set("transactions", transactionsArray);
+        details.set("transactions", JsonUtils.createTransactions(transactions));
 
         outputNode.set("output", details);
         outputNode.put("timestamp", command.getTimestamp());
@@ -1,12 +1,14 @@
 package org.poo.commands.outputs;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.AccountType;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
 import org.poo.utils.JsonUtils;
 
 import java.util.List;
@@ -35,7 +37,7 @@ public final class SpendingsReport implements OutputCommand {
             return JsonUtils.createError(command, "Account not found");
         }
 
-        if (account.getType().equals("savings")) {
+        if (account.getType() == AccountType.SAVINGS) {
             return JsonUtils.createSpendingsError(command,
                     "This kind of report is not supported for a saving account");
         }
@@ -45,9 +47,8 @@ public final class SpendingsReport implements OutputCommand {
 
     // Generates the spending report
     private ObjectNode generateSpendingsReport(final Account account, final CommandInput command) {
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode outputNode = mapper.createObjectNode();
-        ObjectNode details = mapper.createObjectNode();
+        ObjectNode outputNode = JsonNodeFactory.instance.objectNode();
+        ObjectNode details = JsonNodeFactory.instance.objectNode();
 
         // Add account details to the report
         outputNode.put("command", command.getCommand());
@@ -70,16 +71,15 @@ public final class SpendingsReport implements OutputCommand {
     // Filters transactions to include only card payments
     private ArrayNode generateFilteredTransactions(final Account account,
                                                    final CommandInput command) {
-        ObjectMapper mapper = new ObjectMapper();
-        ArrayNode filteredTransactions = mapper.createArrayNode();
+        ArrayNode filteredTransactions = JsonNodeFactory.instance.arrayNode();
 
-        List<ObjectNode> transactions = account.getTransactionHandler()
+        List<Transaction> transactions = account.getTransactionHandler()
                 .filterTransactionsByInterval(command.getStartTimestamp(),
                         command.getEndTimestamp());
 
-        for (ObjectNode transaction : transactions) {
-            if ("Card payment".equals(transaction.get("description").asText())) {
-                filteredTransactions.add(transaction);
+        for (Transaction transaction : transactions) {
+            if (transaction.getKind() == TransactionKind.CARD_PAYMENT) {
+                filteredTransactions.add(transaction.toJson());
             }
         }
         return filteredTransactions;
@@ -88,25 +88,22 @@ public final class SpendingsReport implements OutputCommand {
     // Generates a summary of spending grouped by commerciants
     private ArrayNode generateCommerciantSummary(final Account account,
                                                  final CommandInput command) {
-        ObjectMapper mapper = new ObjectMapper();
-        ArrayNode commerciantSummary = mapper.createArrayNode();
+        ArrayNode commerciantSummary = JsonNodeFactory.instance.arrayNode();
 
-        List<ObjectNode> transactions = account.getTransactionHandler()
+        List<Transaction> transactions = account.getTransactionHandler()
                 .filterTransactionsByInterval(command.getStartTimestamp(),
                         command.getEndTimestamp());
 
         Map<String, Double> commerciantTotals = new TreeMap<>();
-        for (ObjectNode transaction : transactions) {
-            JsonNode commerciantJsonNode = transaction.get("commerciant");
-            if (commerciantJsonNode != null) {
-                String commerciant = commerciantJsonNode.asText();
-                double amount = transaction.get("amount").asDouble();
-                commerciantTotals.merge(commerciant, amount, Double::sum);
+        for (Transaction transaction : transactions) {
+            if (transaction.getCommerciant() != null) {
+                commerciantTotals.merge(transaction.getCommerciant(),
+                        transaction.getAmount(), Double::sum);
             }
         }
 
         commerciantTotals.forEach((commerciant, total) -> {
-            ObjectNode commerciantNode = mapper.createObjectNode();
+            ObjectNode commerciantNode = JsonNodeFactory.instance.objectNode();
             commerciantNode.put("commerciant", commerciant);
             commerciantNode.put("total", total);
             commerciantSummary.add(commerciantNode);
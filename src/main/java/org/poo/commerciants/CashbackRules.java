@@ -0,0 +1,279 @@
+package org.poo.commerciants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.poo.utils.Constants.*;
+
+/**
+ * The cashback programs of the bank: the strategies commerciants may use, the categories
+ * with a discount, the spending thresholds and the cashback rate of every plan at each of
+ * them
+ * The rules are described by name once, through a builder, and compiled into flat tables:
+ * a commerciant resolves its strategy and category when it is created and a plan resolves
+ * its row of rates when it is created, so a payment only indexes arrays
+ * Every app builds its rules once and hands them to the commerciants and plans it creates
+ */
+public final class CashbackRules {
+    // The largest number of categories, one bit each in the cashback ledgers
+    private static final int MAX_CATEGORIES = Integer.SIZE;
+
+    private final Map<String, Function<CashbackRules, CashbackStrategy>> strategies;
+    private final Map<String, Integer> categories;
+    private final int[] requiredTransactions;
+    private final double[] discountRates;
+    // The thresholds, ascending, and the rates of plan p at threshold t at p * tiers + t
+    private final double[] thresholds;
+    private final Map<String, PlanRates> plans;
+    private final double[] rates;
+
+    private CashbackRules(final Builder builder) {
+        strategies = new HashMap<>(builder.strategies);
+        categories = new HashMap<>();
+        requiredTransactions = new int[builder.categories.size()];
+        discountRates = new double[builder.categories.size()];
+        for (int i = 0; i < builder.categories.size(); i++) {
+            Category category = builder.categories.get(i);
+            categories.put(category.name(), i);
+            requiredTransactions[i] = category.requiredTransactions();
+            discountRates[i] = category.discountRate();
+        }
+
+        thresholds = builder.thresholds.stream().mapToDouble(Double::doubleValue).toArray();
+        plans = new HashMap<>();
+        rates = new double[builder.plans.size() * thresholds.length];
+        for (int i = 0; i < builder.plans.size(); i++) {
+            Plan plan = builder.plans.get(i);
+            System.arraycopy(plan.rates(), 0, rates, i * thresholds.length, thresholds.length);
+            plans.put(plan.name(), new PlanRates(i * thresholds.length));
+        }
+    }
+
+    /**
+     * Builds the rules of the bank: a discount for food, clothes and tech commerciants
+     * counting transactions, and three spending thresholds for the standard, student,
+     * silver and gold plans
+     *
+     * @return The rules
+     */
+    public static CashbackRules defaults() {
+        return new Builder()
+                .strategy("spendingThreshold", SpendingThresholdStrategy::new)
+                .strategy("nrOfTransactions", NumberOfTransactionsStrategy::new)
+                .category("Food", MIN_TRANSACTIONS_FOOD_DISCOUNT, FOOD_DISCOUNT_RATE)
+                .category("Clothes", MIN_TRANSACTIONS_CLOTHES_DISCOUNT, CLOTHES_DISCOUNT_RATE)
+                .category("Tech", MIN_TRANSACTIONS_TECH_DISCOUNT, TECH_DISCOUNT_RATE)
+                .threshold(FIRST_THRESHOLD)
+                .threshold(SECOND_THRESHOLD)
+                .threshold(THIRD_THRESHOLD)
+                .plan("standard", STANDARD_SMALL_CASHBACK_RATE, STANDARD_MEDIUM_CASHBACK_RATE,
+                        STANDARD_BIG_CASHBACK_RATE)
+                .plan("student", STANDARD_SMALL_CASHBACK_RATE, STANDARD_MEDIUM_CASHBACK_RATE,
+                        STANDARD_BIG_CASHBACK_RATE)
+                .plan("silver", SILVER_SMALL_CASHBACK_RATE, SILVER_MEDIUM_CASHBACK_RATE,
+                        SILVER_BIG_CASHBACK_RATE)
+                .plan("gold", GOLD_SMALL_CASHBACK_RATE, GOLD_MEDIUM_CASHBACK_RATE,
+                        GOLD_BIG_CASHBACK_RATE)
+                .build();
+    }
+
+    /**
+     * Creates a strategy registered under a name
+     *
+     * @param name The name of the strategy
+     * @return A strategy using these rules
+     * @throws IllegalArgumentException if no strategy is registered under the name
+     */
+    public CashbackStrategy createStrategy(final String name) {
+        Function<CashbackRules, CashbackStrategy> factory = strategies.get(name);
+        if (factory == null) {
+            throw new IllegalArgumentException("Invalid cashback strategy: " + name);
+        }
+        return factory.apply(this);
+    }
+
+    /**
+     * Returns the index of a category with a discount
+     *
+     * @param category The name of the category
+     * @return The index of the category, or -1 if it has no discount
+     */
+    public int categoryIndex(final String category) {
+        Integer index = categories.get(category);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the number of payments the discount of a category requires
+     *
+     * @param category The index of a category with a discount
+     * @return The number of payments, which must be exceeded
+     */
+    public int getRequiredTransactions(final int category) {
+        return requiredTransactions[category];
+    }
+
+    /**
+     * Returns the rate of the discount of a category
+     *
+     * @param category The index of a category with a discount
+     * @return The rate of the discount
+     */
+    public double getDiscountRate(final int category) {
+        return discountRates[category];
+    }
+
+    /**
+     * Returns the smallest amount that has to be spent to receive a cashback from the plan
+     *
+     * @return The lowest threshold, or infinity if there are no thresholds
+     */
+    public double getFirstThreshold() {
+        return thresholds.length == 0 ? Double.POSITIVE_INFINITY : thresholds[0];
+    }
+
+    /**
+     * Returns the row of cashback rates of a plan
+     *
+     * @param plan The name of the plan
+     * @return The rates of the plan, built once with the rules and shared by every plan
+     * @throws IllegalArgumentException if the plan has no rates
+     */
+    public PlanRates getPlanRates(final String plan) {
+        PlanRates planRates = plans.get(plan);
+        if (planRates == null) {
+            throw new IllegalArgumentException("No cashback rates for plan: " + plan);
+        }
+        return planRates;
+    }
+
+    // A category with a discount, as described to the builder
+    private record Category(String name, int requiredTransactions, double discountRate) {
+    }
+
+    // The rates of a plan, as described to the builder
+    private record Plan(String name, double[] rates) {
+    }
+
+    /**
+     * The cashback rates of one plan, at every spending threshold of the rules
+     */
+    public final class PlanRates {
+        // The index of the rate of the plan at the first threshold
+        private final int offset;
+
+        private PlanRates(final int offset) {
+            this.offset = offset;
+        }
+
+        /**
+         * Returns the cashback rate for the amount spent at commerciants with spending
+         * thresholds
+         *
+         * @param spendingTotal The amount spent
+         * @return The rate of the highest threshold reached, 0 if none is reached
+         */
+        public double getCashbackRate(final double spendingTotal) {
+            for (int tier = thresholds.length - 1; tier >= 0; tier--) {
+                if (spendingTotal >= thresholds[tier]) {
+                    return rates[offset + tier];
+                }
+            }
+            return 0.0;
+        }
+    }
+
+    /**
+     * Builder describing cashback rules by name, compiled by {@link #build()}
+     */
+    public static final class Builder {
+        private final Map<String, Function<CashbackRules, CashbackStrategy>> strategies =
+                new HashMap<>();
+        private final List<Category> categories = new ArrayList<>();
+        private final List<Double> thresholds = new ArrayList<>();
+        private final List<Plan> plans = new ArrayList<>();
+
+        /**
+         * Registers a strategy commerciants may name in their input
+         *
+         * @param name    The name of the strategy
+         * @param factory Creates the strategy from the compiled rules
+         * @return The current builder instance, for chaining
+         */
+        public Builder strategy(final String name,
+                                final Function<CashbackRules, CashbackStrategy> factory) {
+            strategies.put(name, factory);
+            return this;
+        }
+
+        /**
+         * Adds a category with a discount for accounts paying often at its commerciants
+         *
+         * @param name                 The name of the category
+         * @param requiredTransactions The number of payments that must be exceeded
+         * @param discountRate         The rate of the discount
+         * @return The current builder instance, for chaining
+         * @throws IllegalArgumentException if the category was already added or there are
+         *                                  too many categories
+         */
+        public Builder category(final String name, final int requiredTransactions,
+                                final double discountRate) {
+            if (categories.stream().anyMatch(category -> category.name().equals(name))) {
+                throw new IllegalArgumentException("Duplicate cashback category: " + name);
+            }
+            if (categories.size() == MAX_CATEGORIES) {
+                throw new IllegalArgumentException("Too many cashback categories");
+            }
+            categories.add(new Category(name, requiredTransactions, discountRate));
+            return this;
+        }
+
+        /**
+         * Adds a spending threshold, above the ones added before
+         *
+         * @param amount The amount that has to be spent to reach the threshold
+         * @return The current builder instance, for chaining
+         * @throws IllegalArgumentException if the threshold is not above the previous one
+         */
+        public Builder threshold(final double amount) {
+            if (!thresholds.isEmpty() && amount <= thresholds.get(thresholds.size() - 1)) {
+                throw new IllegalArgumentException("Thresholds must be ascending");
+            }
+            thresholds.add(amount);
+            return this;
+        }
+
+        /**
+         * Adds the cashback rates of a plan
+         *
+         * @param name  The name of the plan
+         * @param rates The rate at every threshold, in the order the thresholds were added
+         * @return The current builder instance, for chaining
+         */
+        public Builder plan(final String name, final double... rates) {
+            plans.add(new Plan(name, Arrays.copyOf(rates, rates.length)));
+            return this;
+        }
+
+        /**
+         * Compiles the rules described so far
+         *
+         * @return The rules
+         * @throws IllegalArgumentException if a plan does not have a rate for every threshold
+         */
+        public CashbackRules build() {
+            for (Plan plan : plans) {
+                if (plan.rates().length != thresholds.size()) {
+                    throw new IllegalArgumentException("Plan " + plan.name()
+                            + " needs a rate for each of the " + thresholds.size()
+                            + " thresholds");
+                }
+            }
+            return new CashbackRules(this);
+        }
+    }
+}
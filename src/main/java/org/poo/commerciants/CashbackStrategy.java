@@ -16,10 +16,10 @@ public interface CashbackStrategy {
      * @param app      The application context
      * @param user     The user making the transaction
      * @param account  The account from which the transaction is made
-     * @param category The category of the commerciant
+     * @param category The index of the category of the commerciant, -1 if it has no discount
      * @return true if the user is eligible for cashback, false otherwise
      */
-    boolean isEligible(App app, User user, Account account, String category);
+    boolean isEligible(App app, User user, Account account, int category);
 
     /**
      * Applies cashback to the user's account if they are eligible
@@ -27,11 +27,12 @@ public interface CashbackStrategy {
      * @param app               The application context
      * @param user              The user receiving the cashback
      * @param account           The account involved in the transaction
-     * @param category          The category of the commerciant
+     * @param category          The index of the category of the commerciant, -1 if it has
+     *                          no discount
      * @param transactionAmount The amount of the transaction
      * @param commerciant       The commerciant associated with the transaction
      */
-    void applyCashback(App app, User user, Account account, String category,
+    void applyCashback(App app, User user, Account account, int category,
                        double transactionAmount, Commerciant commerciant);
 
     /**
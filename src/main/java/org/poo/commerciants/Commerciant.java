@@ -3,13 +3,9 @@ package org.poo.commerciants;
 import lombok.Data;
 import org.poo.fileio.CommerciantInput;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Represents a commerciant in the system
- * Stores information about the commerciant's account, type, cashback strategy,
- * and transaction statistics
+ * Stores information about the commerciant's account, type and cashback strategy
  */
 @Data
 public class Commerciant {
@@ -18,18 +14,26 @@ public class Commerciant {
     private String account;
     private String type;
     private CashbackStrategy strategy;
+    // The position of the commerciant among all commerciants, in the cashback ledgers
+    private final int index;
+    // The index of the category of the commerciant in the cashback rules, -1 if it has none
+    private final int category;
 
     /**
-     * Tracks the number of transactions made by different accounts for this commerciant
+     * Constructs a commerciant from its input
+     *
+     * @param input The input of the commerciant
+     * @param index The position of the commerciant among all commerciants
+     * @param rules The cashback rules the strategy and category are resolved from
      */
-    private Map<String, Integer> accountNumTransactions;
-
-    public Commerciant(final CommerciantInput input) {
+    public Commerciant(final CommerciantInput input, final int index,
+                       final CashbackRules rules) {
         commerciant = input.getCommerciant();
         id = input.getId();
         account = input.getAccount();
         type = input.getType();
-        strategy = StrategyFactory.createCashbackStrategy(input);
-        accountNumTransactions = new HashMap<>();
+        strategy = StrategyFactory.createCashbackStrategy(rules, input);
+        category = rules.categoryIndex(type);
+        this.index = index;
     }
 }
@@ -2,9 +2,9 @@ package org.poo.commerciants;
 
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.CashbackLedger;
 import org.poo.models.User;
 
-import java.util.Map;
 
 /**
  * Cashback strategy implementation based on the number of transactions
@@ -12,46 +12,45 @@ import java.util.Map;
  * in a specific category to be eligible for cashback rewards
  */
 public final class NumberOfTransactionsStrategy implements CashbackStrategy {
+    private final CashbackRules rules;
+
+    /**
+     * Constructs the strategy
+     *
+     * @param rules The rules giving the discount of every category
+     */
+    public NumberOfTransactionsStrategy(final CashbackRules rules) {
+        this.rules = rules;
+    }
+
     @Override
     public boolean isEligible(final App app, final User user,
-                              final Account account, final String category) {
-        // Check if the account may still get a discount for the category
-        if (!account.getRequiredTransactions().containsKey(category)) {
+                              final Account account, final int category) {
+        // The account may still get the discount of the category
+        CashbackLedger ledger = account.getCashback();
+        if (!ledger.hasDiscount(category)) {
             return false;
         }
 
-        // Iterate through all commerciants to find those using this strategy
-        for (Commerciant commerciant : app.getCommerciants()) {
-            if (commerciant.getStrategy().getType().equals("nrOfTransactions")) {
-                // Check if the account has a sufficient number of transactions
-                if (commerciant.getAccountNumTransactions().containsKey(account.getIban())) {
-                    if (commerciant.getAccountNumTransactions()
-                            .get(account.getIban()) > account.getRequiredTransactions()
-                            .get(category)) {
-                        return true;
-                    }
-                }
-            }
-        }
-
-        return false;
+        /* Some commerciant counting transactions must have been paid more times than the
+        category requires; the account keeps the largest count, so a single comparison
+        replaces a scan over every commerciant */
+        return ledger.getMaxCommerciantTransactions() > rules.getRequiredTransactions(category);
     }
 
     @Override
     public void applyCashback(final App app, final User user, final Account account,
-                              final String category, final double transactionAmount,
+                              final int category, final double transactionAmount,
                               final Commerciant commerciant) {
         // Increment the number of transactions made by this account for the commerciant
-        Map<String, Integer> numTransactions = commerciant.getAccountNumTransactions();
-        numTransactions.put(account.getIban(),
-                numTransactions.getOrDefault(account.getIban(), 0) + 1);
+        account.getCashback().countTransaction(commerciant.getIndex());
 
         if (!isEligible(app, user, account, category)) {
             return;
         }
 
         // Calculate the cashback amount based on the discount rate
-        double cashbackRate = account.getDiscounts().get(category);
+        double cashbackRate = rules.getDiscountRate(category);
         double cashbackAmount = transactionAmount * cashbackRate;
 
         // Add the cashback to the account
@@ -2,41 +2,48 @@ package org.poo.commerciants;
 
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.CashbackLedger;
 import org.poo.models.User;
 
-import static org.poo.utils.Constants.FIRST_THRESHOLD;
-
 /**
  * Cashback strategy implementation based on spending thresholds
  * This strategy awards cashback once an account's spending amount reaches a certain threshold
  */
 public final class SpendingThresholdStrategy implements CashbackStrategy {
+    private final CashbackRules rules;
+
+    /**
+     * Constructs the strategy
+     *
+     * @param rules The rules giving the thresholds and the discount of every category
+     */
+    public SpendingThresholdStrategy(final CashbackRules rules) {
+        this.rules = rules;
+    }
+
     @Override
     public boolean isEligible(final App app, final User user,
-                              final Account account, final String category) {
+                              final Account account, final int category) {
         // Check if the total spending amount meets the defined threshold
-        return account.getSpendingAmount() >= FIRST_THRESHOLD;
+        return account.getCashback().getSpendingAmount() >= rules.getFirstThreshold();
     }
 
     @Override
     public void applyCashback(final App app, final User user, final Account account,
-                              final String category, final double transactionAmount,
+                              final int category, final double transactionAmount,
                               final Commerciant commerciant) {
         // Increment the total spending amount for the account
-        account.addSpendingAmount(transactionAmount);
+        CashbackLedger ledger = account.getCashback();
+        ledger.addSpendingAmount(transactionAmount);
 
         // Check if cashback can be awarded based on required transactions for the category
-        if (account.getRequiredTransactions().containsKey(category)) {
-            if (commerciant.getAccountNumTransactions().containsKey(account.getIban())) {
-                if (commerciant.getAccountNumTransactions()
-                        .get(account.getIban()) > account.getRequiredTransactions().get(category)) {
-                    // Calculate cashback based on the category-specific discount
-                    double cashbackRate = account.getDiscounts().get(category);
-                    double cashbackAmount = transactionAmount * cashbackRate;
-                    account.addCashback(app, cashbackAmount, category);
-                    return;
-                }
-            }
+        if (ledger.hasDiscount(category) && ledger.getTransactions(commerciant.getIndex())
+                > rules.getRequiredTransactions(category)) {
+            // Calculate cashback based on the category-specific discount
+            double cashbackRate = rules.getDiscountRate(category);
+            double cashbackAmount = transactionAmount * cashbackRate;
+            account.addCashback(app, cashbackAmount, category);
+            return;
         }
 
         // If not eligible based on category discount, check eligibility
@@ -47,7 +54,7 @@ public final class SpendingThresholdStrategy implements CashbackStrategy {
 
         // Calculate cashback based on the user's account plan and spending amount
         double cashbackRate = user.getAccountPlan()
-                .getCashbackRate(account.getSpendingAmount());
+                .getCashbackRate(ledger.getSpendingAmount());
         double cashbackAmount = transactionAmount * cashbackRate;
         account.addCashback(app, cashbackAmount);
     }
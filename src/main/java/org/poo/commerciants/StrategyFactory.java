@@ -14,17 +14,15 @@ public final class StrategyFactory {
 
     /**
      * Creates a CashbackStrategy instance based on the cashback strategy type
-     * specified in the input
+     * specified in the input, among the strategies registered in the rules
      *
+     * @param rules The cashback rules the strategy uses
      * @param input The input data containing the cashback strategy type
      * @return A specific implementation of the CashbackStrategy interface
      * @throws IllegalArgumentException if the specified cashback strategy type is invalid
      */
-    public static CashbackStrategy createCashbackStrategy(final CommerciantInput input) {
-        return switch (input.getCashbackStrategy()) {
-            case "spendingThreshold" -> new SpendingThresholdStrategy();
-            case "nrOfTransactions" -> new NumberOfTransactionsStrategy();
-            default -> throw new IllegalArgumentException();
-        };
+    public static CashbackStrategy createCashbackStrategy(final CashbackRules rules,
+                                                          final CommerciantInput input) {
+        return rules.createStrategy(input.getCashbackStrategy());
     }
 }
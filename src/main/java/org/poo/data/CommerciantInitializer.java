@@ -1,5 +1,6 @@
 package org.poo.data;
 
+import org.poo.commerciants.CashbackRules;
 import org.poo.commerciants.Commerciant;
 import org.poo.fileio.CommerciantInput;
 
@@ -17,17 +18,20 @@ public final class CommerciantInitializer {
      * @param commerciantInputs An array of CommerciantInput objects containing
      *                          data for commerciant initialization
      * @param dataContainer     The DataContainer where commerciants will be registered
+     * @param rules             The cashback rules the commerciants resolve their strategy and
+     *                          category from
      * @return A list of Commerciant objects created based on the input data.
      */
     public ArrayList<Commerciant> loadCommerciants(final CommerciantInput[] commerciantInputs,
-                                                   final DataContainer dataContainer) {
+                                                   final DataContainer dataContainer,
+                                                   final CashbackRules rules) {
         ArrayList<Commerciant> commerciants = new ArrayList<>();
         for (CommerciantInput commerciantInput : commerciantInputs) {
-            Commerciant commerciant = new Commerciant(commerciantInput);
+            Commerciant commerciant = new Commerciant(commerciantInput, commerciants.size(),
+                    rules);
             commerciants.add(commerciant);
 
-            dataContainer.getCommerciantMap().put(commerciant.getCommerciant(), commerciant);
-            dataContainer.getCommerciantAccountMap().put(commerciant.getAccount(), commerciant);
+            dataContainer.addCommerciant(commerciant);
         }
         return commerciants;
     }
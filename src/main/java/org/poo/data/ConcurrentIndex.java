@@ -0,0 +1,44 @@
+package org.poo.data;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A concurrent index from identifiers to the objects they identify
+ * Like the HashMaps it replaces, it finds nothing for a missing identifier instead of
+ * throwing, so commands looking up a field their input does not set behave as before.
+ * Only lookups are public; the DataContainer owning the index makes every update
+ *
+ * @param <V> The type of the identified objects
+ */
+public final class ConcurrentIndex<V> {
+    private final ConcurrentHashMap<String, V> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the object with the given identifier
+     *
+     * @param key The identifier, which may be null
+     * @return The object, or null if there is none
+     */
+    public V get(final String key) {
+        return key == null ? null : entries.get(key);
+    }
+
+    /**
+     * Maps an identifier to an object, replacing the object it identified before
+     *
+     * @param key   The identifier
+     * @param value The object
+     */
+    void put(final String key, final V value) {
+        entries.put(key, value);
+    }
+
+    /**
+     * Removes an identifier from the index
+     *
+     * @param key The identifier
+     */
+    void remove(final String key) {
+        entries.remove(key);
+    }
+}
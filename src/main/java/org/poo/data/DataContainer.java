@@ -1,24 +1,244 @@
 package org.poo.data;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.poo.commerciants.Commerciant;
 import org.poo.models.Account;
 import org.poo.models.Card;
+import org.poo.models.TransactionJournal;
 import org.poo.models.User;
 
-import java.util.HashMap;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * A container for managing and accessing shared data within the application
+ * The maps are concurrent, so lookups never take a lock. Updates go through the methods
+ * of the container, which change every map an identifier appears in under the lock of
+ * its stripe, so workers sharing the container never see a card or an account in one
+ * map and not yet in the others
  */
 @Getter
 public final class DataContainer {
-    private final HashMap<String, User> emailMap = new HashMap<>();
-    private final HashMap<String, Account> accountMap = new HashMap<>();
-    private final HashMap<String, Account> accountCardMap = new HashMap<>();
-    private final HashMap<String, User> userCardMap = new HashMap<>();
-    private final HashMap<String, User> userAccountMap = new HashMap<>();
-    private final HashMap<String, Card> cardMap = new HashMap<>();
-    private final HashMap<String, Commerciant> commerciantMap = new HashMap<>();
-    private final HashMap<String, Commerciant> commerciantAccountMap = new HashMap<>();
+    private static final int STRIPES = 64;
+    private static final int HASH_SPREAD = 16;
+
+    private final ConcurrentIndex<User> emailMap = new ConcurrentIndex<>();
+    private final ConcurrentIndex<Account> accountMap = new ConcurrentIndex<>();
+    private final ConcurrentIndex<Account> accountCardMap = new ConcurrentIndex<>();
+    private final ConcurrentIndex<User> userCardMap = new ConcurrentIndex<>();
+    private final ConcurrentIndex<User> userAccountMap = new ConcurrentIndex<>();
+    private final ConcurrentIndex<Card> cardMap = new ConcurrentIndex<>();
+    private final ConcurrentIndex<Commerciant> commerciantMap = new ConcurrentIndex<>();
+    private final ConcurrentIndex<Commerciant> commerciantAccountMap = new ConcurrentIndex<>();
+    private final TransactionJournal transactionJournal = new TransactionJournal();
+
+    // Locks guarding the updates of the identifiers hashed to them
+    @Getter(AccessLevel.NONE)
+    private final StampedLock[] stripes = new StampedLock[STRIPES];
+
+    /**
+     * Constructs an empty container
+     */
+    public DataContainer() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new StampedLock();
+        }
+    }
+
+    /**
+     * A card together with the account it belongs to and the user it is mapped to
+     *
+     * @param card    The card
+     * @param account The account of the card
+     * @param user    The user the card is mapped to
+     */
+    public record CardEntry(Card card, Account account, User user) {
+    }
+
+    /**
+     * Registers a user under its email
+     *
+     * @param user The user to register
+     */
+    public void addUser(final User user) {
+        emailMap.put(user.getEmail(), user);
+    }
+
+    /**
+     * Registers a commerciant under its name and the IBAN of its account
+     *
+     * @param commerciant The commerciant to register
+     */
+    public void addCommerciant(final Commerciant commerciant) {
+        commerciantMap.put(commerciant.getCommerciant(), commerciant);
+        commerciantAccountMap.put(commerciant.getAccount(), commerciant);
+    }
+
+    /**
+     * Registers a new account and its owner under the IBAN of the account
+     *
+     * @param account The account to register
+     * @param owner   The user owning the account
+     */
+    public void addAccount(final Account account, final User owner) {
+        StampedLock lock = stripeOf(account.getIban());
+        long stamp = lock.writeLock();
+        try {
+            accountMap.put(account.getIban(), account);
+            userAccountMap.put(account.getIban(), owner);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Registers an account under an alias, next to its IBAN
+     *
+     * @param alias   The alias of the account
+     * @param account The account
+     */
+    public void addAlias(final String alias, final Account account) {
+        StampedLock lock = stripeOf(alias);
+        long stamp = lock.writeLock();
+        try {
+            accountMap.put(alias, account);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes an account from the lookup by IBAN
+     * The IBAN stays mapped to the owner and the cards of the account stay registered
+     *
+     * @param iban The IBAN of the account
+     */
+    public void removeAccount(final String iban) {
+        StampedLock lock = stripeOf(iban);
+        long stamp = lock.writeLock();
+        try {
+            accountMap.remove(iban);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Registers a card, with its account and user, under its number
+     *
+     * @param card    The card to register
+     * @param account The account of the card
+     * @param user    The user the card is mapped to
+     */
+    public void addCard(final Card card, final Account account, final User user) {
+        StampedLock lock = stripeOf(card.getCardNumber());
+        long stamp = lock.writeLock();
+        try {
+            putCard(card.getCardNumber(), card, account, user);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes a card, with its account and user, from the lookup by number
+     *
+     * @param cardNumber The number of the card
+     */
+    public void removeCard(final String cardNumber) {
+        StampedLock lock = stripeOf(cardNumber);
+        long stamp = lock.writeLock();
+        try {
+            removeCardEntries(cardNumber);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Gives a card a new number, moving it with its account and user from the old number
+     * to the new one at once. The stripes of both numbers are locked in index order, so
+     * two replacements cannot deadlock
+     *
+     * @param card      The card to renumber
+     * @param newNumber The new number of the card
+     * @param account   The account of the card
+     * @param user      The user the card is mapped to
+     */
+    public void replaceCardNumber(final Card card, final String newNumber,
+                                  final Account account, final User user) {
+        int oldStripe = stripeIndex(card.getCardNumber());
+        int newStripe = stripeIndex(newNumber);
+        StampedLock first = stripes[Math.min(oldStripe, newStripe)];
+        StampedLock second = stripes[Math.max(oldStripe, newStripe)];
+
+        long firstStamp = first.writeLock();
+        long secondStamp = first == second ? 0 : second.writeLock();
+        try {
+            removeCardEntries(card.getCardNumber());
+            card.setCardNumber(newNumber);
+            putCard(newNumber, card, account, user);
+        } finally {
+            if (first != second) {
+                second.unlockWrite(secondStamp);
+            }
+            first.unlockWrite(firstStamp);
+        }
+    }
+
+    /**
+     * Looks a card up together with its account and user, as they were after the same
+     * update. The read is optimistic and only waits for the stripe when it raced a writer
+     *
+     * @param cardNumber The number of the card
+     * @return The card entry, whose fields are null if the card is not registered
+     */
+    public CardEntry findCard(final String cardNumber) {
+        if (cardNumber == null) {
+            return new CardEntry(null, null, null);
+        }
+
+        StampedLock lock = stripeOf(cardNumber);
+        long stamp = lock.tryOptimisticRead();
+        CardEntry entry = readCard(cardNumber);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                entry = readCard(cardNumber);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return entry;
+    }
+
+    // Puts a card in every card map; the caller holds the lock of its stripe
+    private void putCard(final String cardNumber, final Card card, final Account account,
+                         final User user) {
+        cardMap.put(cardNumber, card);
+        accountCardMap.put(cardNumber, account);
+        userCardMap.put(cardNumber, user);
+    }
+
+    // Removes a card from every card map; the caller holds the lock of its stripe
+    private void removeCardEntries(final String cardNumber) {
+        cardMap.remove(cardNumber);
+        accountCardMap.remove(cardNumber);
+        userCardMap.remove(cardNumber);
+    }
+
+    private CardEntry readCard(final String cardNumber) {
+        return new CardEntry(cardMap.get(cardNumber), accountCardMap.get(cardNumber),
+                userCardMap.get(cardNumber));
+    }
+
+    private StampedLock stripeOf(final String key) {
+        return stripes[stripeIndex(key)];
+    }
+
+    // Spreads the hash so identifiers sharing a suffix still land on different stripes
+    private static int stripeIndex(final String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> HASH_SPREAD)) & (STRIPES - 1);
+    }
 }
@@ -1,5 +1,6 @@
 package org.poo.data;
 
+import org.poo.commerciants.CashbackRules;
 import org.poo.fileio.UserInput;
 import org.poo.models.User;
 
@@ -16,17 +17,19 @@ public final class UserInitializer {
      *
      * @param userInputs    An array of UserInput objects containing user details
      * @param dataContainer The data container for storing user mappings
+     * @param rules         The cashback rules the account plans take their rates from
      * @return An ArrayList of User objects created from the input data
      */
     public ArrayList<User> loadUsers(final UserInput[] userInputs,
-                                     final DataContainer dataContainer) {
+                                     final DataContainer dataContainer,
+                                     final CashbackRules rules) {
         ArrayList<User> users = new ArrayList<>();
         for (UserInput userInput : userInputs) {
-            User user = new User(userInput);
+            User user = new User(userInput, dataContainer.getTransactionJournal(), rules);
             users.add(user);
 
             // Map the user's email to the User object in the data container
-            dataContainer.getEmailMap().put(user.getEmail(), user);
+            dataContainer.addUser(user);
         }
         return users;
     }
@@ -1,7 +1,11 @@
 package org.poo.fileio;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.poo.commands.CommandType;
 
 import java.util.List;
 
@@ -34,4 +38,18 @@ public final class CommandInput {
     private double minBalance;
     private List<String> accounts;
     private List<Double> amountForUsers;
+    // Resolved from the command name when it is set
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private CommandType commandType = CommandType.UNKNOWN;
+
+    /**
+     * Sets the name of the command and resolves its type
+     *
+     * @param command The name of the command
+     */
+    public void setCommand(final String command) {
+        this.command = command;
+        commandType = CommandType.fromName(command);
+    }
 }
@@ -0,0 +1,709 @@
+package org.poo.fileio;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.poo.commands.CommandType;
+import org.poo.utils.Utils;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Generates synthetic inputs of any size, deterministically from a seed
+ * Every user gets the configured number of accounts, funded and given a card, and
+ * business accounts get associates; they are followed by a weighted mix of every
+ * supported command
+ * The IBANs and card numbers the application will generate are predicted by drawing them
+ * from Utils in the same order the application does, so the application has to be run
+ * right after Utils.resetRandom, as Main does. To keep the prediction valid, one-time
+ * cards are never used for payments (a payment replaces them) and every account opened
+ * by the mix is funded right away (so no account can be deleted)
+ * The commands can be written straight to a file, one at a time, so the size of the
+ * generated input is not bounded by memory
+ */
+public final class InputGenerator {
+    private static final String[] CASHBACK_STRATEGIES = {"spendingThreshold", "nrOfTransactions"};
+    private static final String[] COMMERCIANT_TYPES = {"Food", "Clothes", "Tech"};
+    private static final String[] OCCUPATIONS = {"student", "engineer", "doctor"};
+    private static final String[] PLANS = {"silver", "gold"};
+    private static final String[] ROLES = {"manager", "employee"};
+    private static final String[] SPLIT_TYPES = {"equal", "custom"};
+    private static final String[] REPORT_TYPES = {"transaction", "commerciant"};
+    private static final String BASE_CURRENCY = "RON";
+    private static final int SAVINGS_PERIOD = 3;
+    private static final int IBAN_DIGITS = 20;
+    private static final double INITIAL_FUNDS = 100_000;
+    private static final int MAX_AMOUNT = 100;
+    private static final int MAX_SPLIT_ACCOUNTS = 4;
+    private static final int REPORT_WINDOW = 100;
+    private static final int MIN_BIRTH_YEAR = 1950;
+    private static final int BIRTH_YEARS = 55;
+    private static final int MONTHS = 12;
+    private static final int DAYS = 28;
+    private static final double MAX_RATE = 10;
+    private static final double MAX_INTEREST_RATE = 0.1;
+    private static final int CENTS = 100;
+
+    private static final int DEFAULT_USERS = 10;
+    private static final int DEFAULT_ACCOUNTS_PER_USER = 2;
+    private static final int DEFAULT_BUSINESS_ACCOUNTS = 2;
+    private static final int DEFAULT_ASSOCIATES = 2;
+    private static final int DEFAULT_COMMERCIANTS = 10;
+    private static final int DEFAULT_CURRENCIES = 4;
+    private static final double DEFAULT_EXCHANGE_DENSITY = 0.3;
+    private static final long DEFAULT_COMMANDS = 1_000;
+    // Weights of the default mix, every other command has a weight of one
+    private static final int PAYMENT_WEIGHT = 30;
+    private static final int TRANSFER_WEIGHT = 10;
+    private static final int FUNDS_WEIGHT = 8;
+    private static final int WITHDRAWAL_WEIGHT = 4;
+    private static final int SPLIT_WEIGHT = 3;
+    private static final int CARD_WEIGHT = 2;
+
+    private final long seed;
+    private int users = DEFAULT_USERS;
+    private int accountsPerUser = DEFAULT_ACCOUNTS_PER_USER;
+    private int businessAccounts = DEFAULT_BUSINESS_ACCOUNTS;
+    private int associatesPerBusiness = DEFAULT_ASSOCIATES;
+    private int commerciants = DEFAULT_COMMERCIANTS;
+    private int currencies = DEFAULT_CURRENCIES;
+    private double exchangeDensity = DEFAULT_EXCHANGE_DENSITY;
+    private long commands = DEFAULT_COMMANDS;
+    private final Map<CommandType, Integer> weights = new EnumMap<>(CommandType.class);
+
+    /**
+     * Constructs a generator with the default configuration and command mix
+     *
+     * @param seed The seed of the random choices; the same seed and configuration
+     *             always give the same input
+     */
+    public InputGenerator(final long seed) {
+        this.seed = seed;
+        for (CommandType type : CommandType.values()) {
+            weights.put(type, type == CommandType.UNKNOWN ? 0 : 1);
+        }
+        weights.put(CommandType.PAY_ONLINE, PAYMENT_WEIGHT);
+        weights.put(CommandType.SEND_MONEY, TRANSFER_WEIGHT);
+        weights.put(CommandType.ADD_FUNDS, FUNDS_WEIGHT);
+        weights.put(CommandType.ACCEPT_SPLIT_PAYMENT, FUNDS_WEIGHT);
+        weights.put(CommandType.CASH_WITHDRAWAL, WITHDRAWAL_WEIGHT);
+        weights.put(CommandType.SPLIT_PAYMENT, SPLIT_WEIGHT);
+        weights.put(CommandType.CHECK_CARD_STATUS, CARD_WEIGHT);
+        weights.put(CommandType.CREATE_CARD, CARD_WEIGHT);
+    }
+
+    /**
+     * Sets the number of users
+     *
+     * @param count The number of users, at least one
+     * @return This generator
+     */
+    public InputGenerator users(final int count) {
+        users = Math.max(1, count);
+        return this;
+    }
+
+    /**
+     * Sets the number of personal accounts opened for every user before the mix
+     * Every third account of a user is a savings account, the others are classic
+     *
+     * @param count The number of accounts per user, at least one
+     * @return This generator
+     */
+    public InputGenerator accountsPerUser(final int count) {
+        accountsPerUser = Math.max(1, count);
+        return this;
+    }
+
+    /**
+     * Sets the number of business accounts opened before the mix
+     *
+     * @param count The number of business accounts
+     * @return This generator
+     */
+    public InputGenerator businessAccounts(final int count) {
+        businessAccounts = Math.max(0, count);
+        return this;
+    }
+
+    /**
+     * Sets the number of associates added to every business account before the mix
+     *
+     * @param count The number of associates per business account
+     * @return This generator
+     */
+    public InputGenerator associatesPerBusiness(final int count) {
+        associatesPerBusiness = Math.max(0, count);
+        return this;
+    }
+
+    /**
+     * Sets the number of commerciants; they alternate between the cashback strategies
+     *
+     * @param count The number of commerciants, at least one
+     * @return This generator
+     */
+    public InputGenerator commerciants(final int count) {
+        commerciants = Math.max(1, count);
+        return this;
+    }
+
+    /**
+     * Sets the number of currencies in the exchange rate graph, RON included
+     *
+     * @param count The number of currencies, at least one
+     * @return This generator
+     */
+    public InputGenerator currencies(final int count) {
+        currencies = Math.max(1, count);
+        return this;
+    }
+
+    /**
+     * Sets the density of the exchange rate graph
+     * Every currency is quoted against one of the currencies before it, so they are all
+     * connected; every other pair is also quoted with the given probability
+     *
+     * @param density The probability of quoting a pair that is not needed for connectivity
+     * @return This generator
+     */
+    public InputGenerator exchangeDensity(final double density) {
+        exchangeDensity = density;
+        return this;
+    }
+
+    /**
+     * Sets the number of commands of the mix, generated after the setup commands
+     * Opening an account in the mix is followed by the command funding it, so the input
+     * can hold slightly more commands than this. The responses to a split payment are
+     * drawn from the mix like any other command
+     *
+     * @param count The number of commands of the mix
+     * @return This generator
+     */
+    public InputGenerator commands(final long count) {
+        commands = Math.max(0, count);
+        return this;
+    }
+
+    /**
+     * Sets the weight of a command in the mix
+     *
+     * @param type   The type of the command
+     * @param weight The relative weight; zero leaves the command out of the mix
+     * @return This generator
+     */
+    public InputGenerator weight(final CommandType type, final int weight) {
+        if (type != CommandType.UNKNOWN) {
+            weights.put(type, Math.max(0, weight));
+        }
+        return this;
+    }
+
+    /**
+     * Generates the input in memory
+     *
+     * @return The generated input
+     */
+    public ObjectInput generate() {
+        Generation generation = new Generation();
+        ObjectInput input = generation.generateSetup();
+
+        List<CommandInput> generated = new ArrayList<>();
+        generation.generateCommands(generated::add);
+        input.setCommands(generated.toArray(new CommandInput[0]));
+        return input;
+    }
+
+    /**
+     * Generates the input straight to a file, writing every command as soon as it is
+     * generated. The sections are written in the order StreamingInputReader streams
+     * them: users, commerciants, exchange rates and then the commands
+     *
+     * @param mapper The mapper the sections and commands are serialized with
+     * @param file   The file to write, created or truncated
+     * @throws IOException in case of exceptions to writing the file
+     */
+    public void write(final ObjectMapper mapper, final Path file) throws IOException {
+        // Leave out the fields that are not set, they read back as their defaults
+        ObjectMapper writer = mapper.copy()
+                .setSerializationInclusion(JsonInclude.Include.NON_DEFAULT)
+                .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        Generation generation = new Generation();
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(file));
+             JsonGenerator json = writer.createGenerator(stream, JsonEncoding.UTF8)) {
+            ObjectInput setup = generation.generateSetup();
+
+            json.writeStartObject();
+            json.writeFieldName("users");
+            writer.writeValue(json, setup.getUsers());
+            json.writeFieldName("commerciants");
+            writer.writeValue(json, setup.getCommerciants());
+            json.writeFieldName("exchangeRates");
+            writer.writeValue(json, setup.getExchangeRates());
+
+            json.writeArrayFieldStart("commands");
+            try {
+                generation.generateCommands(command -> {
+                    try {
+                        writer.writeValue(json, command);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * An account opened by the generated commands
+     */
+    private record GeneratedAccount(String iban, String owner, String currency) {
+    }
+
+    /**
+     * A card that can be paid with, and the users allowed to pay with it
+     */
+    private record GeneratedCard(String number, GeneratedAccount account, List<String> holders) {
+    }
+
+    /**
+     * The state of a single generation, so a generator can be run more than once
+     */
+    private final class Generation {
+        private final Random random = new Random(seed);
+        private final CommandType[] types = CommandType.values();
+        private final long[] cumulativeWeights = new long[types.length];
+
+        private String[] emails;
+        private String[] commerciantNames;
+        private String[] currencyNames;
+        private final List<GeneratedAccount> accounts = new ArrayList<>();
+        private final List<GeneratedAccount> savingsAccounts = new ArrayList<>();
+        private final List<GeneratedAccount> businesses = new ArrayList<>();
+        private final Map<GeneratedAccount, List<String>> associates = new HashMap<>();
+        private final List<GeneratedCard> cards = new ArrayList<>();
+        private final List<String> allCards = new ArrayList<>();
+        // Split payment responses that are still expected, as email and split type
+        private final Deque<String[]> pendingResponses = new ArrayDeque<>();
+        private int timestamp;
+
+        private Generation() {
+            long total = 0;
+            for (int i = 0; i < types.length; i++) {
+                total += weights.get(types[i]);
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        // Generates the users, commerciants and exchange rates
+        private ObjectInput generateSetup() {
+            ObjectInput input = new ObjectInput();
+            input.setUsers(generateUsers());
+            input.setCommerciants(generateCommerciants());
+            input.setExchangeRates(generateExchangeRates());
+            return input;
+        }
+
+        /* Generates the setup commands followed by the mix. The random streams of Utils
+        are restarted, so they are drawn in the same order as the application will */
+        private void generateCommands(final Consumer<CommandInput> sink) {
+            Utils.resetRandom();
+            try {
+                for (int user = 0; user < users; user++) {
+                    for (int i = 0; i < accountsPerUser; i++) {
+                        String type = i % SAVINGS_PERIOD == SAVINGS_PERIOD - 1
+                                ? "savings" : "classic";
+                        GeneratedAccount account = openAccount(sink, emails[user], type);
+                        createCard(sink, account, false);
+                    }
+                }
+                for (int i = 0; i < businessAccounts; i++) {
+                    GeneratedAccount business = openAccount(sink, emails[i % users], "business");
+                    createCard(sink, business, false);
+                    for (int j = 0; j < associatesPerBusiness; j++) {
+                        addAssociate(sink, business);
+                    }
+                }
+
+                long total = cumulativeWeights[cumulativeWeights.length - 1];
+                for (long i = 0; total > 0 && i < commands; i++) {
+                    generateCommand(sink, pickType(total));
+                }
+            } finally {
+                Utils.resetRandom();
+            }
+        }
+
+        // Generates the users, with random birth dates and occupations
+        private UserInput[] generateUsers() {
+            UserInput[] inputs = new UserInput[users];
+            emails = new String[users];
+            for (int i = 0; i < users; i++) {
+                emails[i] = "user" + i + "@generated.org";
+                inputs[i] = new UserInput();
+                inputs[i].setFirstName("User");
+                inputs[i].setLastName("No" + i);
+                inputs[i].setEmail(emails[i]);
+                inputs[i].setBirthDate(String.format("%d-%02d-%02d",
+                        MIN_BIRTH_YEAR + random.nextInt(BIRTH_YEARS),
+                        1 + random.nextInt(MONTHS), 1 + random.nextInt(DAYS)));
+                inputs[i].setOccupation(OCCUPATIONS[random.nextInt(OCCUPATIONS.length)]);
+            }
+            return inputs;
+        }
+
+        // Generates commerciants of every type, alternating the cashback strategies
+        private CommerciantInput[] generateCommerciants() {
+            CommerciantInput[] inputs = new CommerciantInput[commerciants];
+            commerciantNames = new String[commerciants];
+            for (int i = 0; i < commerciants; i++) {
+                commerciantNames[i] = "Commerciant" + i;
+                inputs[i] = new CommerciantInput();
+                inputs[i].setCommerciant(commerciantNames[i]);
+                inputs[i].setId(i);
+                inputs[i].setAccount(commerciantIban(i));
+                inputs[i].setType(COMMERCIANT_TYPES[random.nextInt(COMMERCIANT_TYPES.length)]);
+                inputs[i].setCashbackStrategy(
+                        CASHBACK_STRATEGIES[i % CASHBACK_STRATEGIES.length]);
+            }
+            return inputs;
+        }
+
+        /* Generates a connected exchange rate graph. Every currency has a value in RON and
+        the rates are the ratios of the values, so every path between two currencies
+        gives the same rate */
+        private ExchangeInput[] generateExchangeRates() {
+            currencyNames = new String[currencies];
+            double[] values = new double[currencies];
+            currencyNames[0] = BASE_CURRENCY;
+            values[0] = 1.0;
+            for (int i = 1; i < currencies; i++) {
+                currencyNames[i] = String.format("C%02d", i);
+                values[i] = 1 + random.nextDouble() * MAX_RATE;
+            }
+
+            List<ExchangeInput> rates = new ArrayList<>();
+            for (int to = 1; to < currencies; to++) {
+                int parent = random.nextInt(to);
+                for (int from = 0; from < to; from++) {
+                    if (from == parent || random.nextDouble() < exchangeDensity) {
+                        ExchangeInput rate = new ExchangeInput();
+                        rate.setFrom(currencyNames[to]);
+                        rate.setTo(currencyNames[from]);
+                        rate.setRate(values[to] / values[from]);
+                        rates.add(rate);
+                    }
+                }
+            }
+            return rates.toArray(new ExchangeInput[0]);
+        }
+
+        // Picks the type of the next command according to the weights
+        private CommandType pickType(final long total) {
+            long pick = random.nextLong(total);
+            int low = 0;
+            int high = types.length - 1;
+            // Find the first type whose cumulative weight is past the pick
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulativeWeights[mid] <= pick) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return types[low];
+        }
+
+        // Generates a command of the given type on randomly chosen users, accounts and cards
+        private void generateCommand(final Consumer<CommandInput> sink, final CommandType type) {
+            GeneratedAccount account = pick(accounts);
+            GeneratedCard card = pick(cards);
+            CommandInput command = command(type);
+
+            switch (type) {
+                case PRINT_USERS -> { }
+                case PRINT_TRANSACTIONS -> command.setEmail(pick(emails));
+                case DELETE_ACCOUNT -> {
+                    command.setEmail(account.owner());
+                    command.setAccount(account.iban());
+                }
+                case REPORT, SPENDINGS_REPORT -> {
+                    command.setAccount(account.iban());
+                    setWindow(command);
+                }
+                case BUSINESS_REPORT -> {
+                    command.setAccount(pickBusiness(account).iban());
+                    command.setType(pick(REPORT_TYPES));
+                    setWindow(command);
+                }
+                case ADD_ACCOUNT -> {
+                    // Funding the account right away keeps it from being deleted
+                    GeneratedAccount opened = openAccount(sink, command, pick(emails),
+                            random.nextInt(SAVINGS_PERIOD) == 0 ? "savings" : "classic");
+                    addFunds(sink, opened);
+                    return;
+                }
+                case CREATE_CARD, CREATE_ONE_TIME_CARD -> {
+                    createCard(sink, command, account, type == CommandType.CREATE_ONE_TIME_CARD);
+                    return;
+                }
+                case ADD_FUNDS -> {
+                    command.setEmail(account.owner());
+                    command.setAccount(account.iban());
+                    command.setAmount(amount());
+                }
+                case DELETE_CARD, CHECK_CARD_STATUS -> command.setCardNumber(pick(allCards));
+                case SET_MINIMUM_BALANCE -> {
+                    command.setAccount(account.iban());
+                    command.setMinBalance(amount());
+                }
+                case PAY_ONLINE -> {
+                    command.setEmail(pick(card.holders()));
+                    command.setCardNumber(card.number());
+                    command.setAmount(amount());
+                    command.setCurrency(pick(currencyNames));
+                    command.setDescription("Online payment");
+                    command.setCommerciant(pick(commerciantNames));
+                }
+                case SEND_MONEY -> {
+                    command.setEmail(account.owner());
+                    command.setAccount(account.iban());
+                    command.setReceiver(random.nextBoolean() ? pick(accounts).iban()
+                            : commerciantIban(random.nextInt(commerciants)));
+                    command.setAmount(amount());
+                    command.setDescription("Transfer");
+                }
+                case SPLIT_PAYMENT -> generateSplitPayment(command);
+                case ACCEPT_SPLIT_PAYMENT, REJECT_SPLIT_PAYMENT -> {
+                    String[] response = pendingResponses.isEmpty()
+                            ? new String[] {pick(emails), pick(SPLIT_TYPES)}
+                            : pendingResponses.poll();
+                    command.setEmail(response[0]);
+                    command.setSplitPaymentType(response[1]);
+                }
+                case CHANGE_INTEREST_RATE -> {
+                    command.setAccount(pickSavings(account).iban());
+                    command.setInterestRate(random.nextDouble() * MAX_INTEREST_RATE);
+                }
+                case ADD_INTEREST -> command.setAccount(pickSavings(account).iban());
+                case SET_ALIAS -> {
+                    command.setEmail(account.owner());
+                    command.setAccount(account.iban());
+                    command.setAlias("alias" + random.nextInt(users));
+                }
+                case WITHDRAW_SAVINGS -> {
+                    command.setAccount(pickSavings(account).iban());
+                    command.setAmount(amount());
+                    command.setCurrency(pick(currencyNames));
+                }
+                case UPGRADE_PLAN -> {
+                    command.setAccount(account.iban());
+                    command.setNewPlanType(pick(PLANS));
+                }
+                case CASH_WITHDRAWAL -> {
+                    command.setEmail(card.account().owner());
+                    command.setCardNumber(card.number());
+                    command.setAmount(amount());
+                    command.setLocation("Location" + random.nextInt(commerciants));
+                }
+                case ADD_NEW_BUSINESS_ASSOCIATE -> {
+                    addAssociate(sink, command, pickBusiness(account));
+                    return;
+                }
+                case CHANGE_SPENDING_LIMIT, CHANGE_DEPOSIT_LIMIT -> {
+                    GeneratedAccount business = pickBusiness(account);
+                    command.setEmail(business.owner());
+                    command.setAccount(business.iban());
+                    command.setAmount(amount() * CENTS);
+                }
+                default -> {
+                    return;
+                }
+            }
+            sink.accept(command);
+        }
+
+        /* Splits a payment between accounts of distinct users; the responses of the
+        participants are expected later in the mix */
+        private void generateSplitPayment(final CommandInput command) {
+            int participants = 2 + random.nextInt(MAX_SPLIT_ACCOUNTS - 1);
+            String type = pick(SPLIT_TYPES);
+            List<String> splitAccounts = new ArrayList<>();
+            List<Double> amounts = new ArrayList<>();
+            List<String> owners = new ArrayList<>();
+
+            for (int i = 0; i < participants; i++) {
+                GeneratedAccount account = pick(accounts);
+                if (!owners.contains(account.owner())) {
+                    owners.add(account.owner());
+                    splitAccounts.add(account.iban());
+                    amounts.add(amount());
+                }
+            }
+
+            command.setSplitPaymentType(type);
+            command.setAccounts(splitAccounts);
+            command.setCurrency(pick(currencyNames));
+            command.setAmount(amounts.stream().mapToDouble(Double::doubleValue).sum());
+            if ("custom".equals(type)) {
+                command.setAmountForUsers(amounts);
+            }
+            for (String owner : owners) {
+                pendingResponses.add(new String[] {owner, type});
+            }
+        }
+
+        // Opens and funds an account during the setup
+        private GeneratedAccount openAccount(final Consumer<CommandInput> sink,
+                                             final String owner, final String type) {
+            GeneratedAccount account = openAccount(sink, command(CommandType.ADD_ACCOUNT),
+                    owner, type);
+            addFunds(sink, account);
+            return account;
+        }
+
+        // Opens an account, predicting the IBAN the application will generate for it
+        private GeneratedAccount openAccount(final Consumer<CommandInput> sink,
+                                             final CommandInput command, final String owner,
+                                             final String type) {
+            command.setEmail(owner);
+            command.setCurrency(pick(currencyNames));
+            command.setAccountType(type);
+            if ("savings".equals(type)) {
+                command.setInterestRate(random.nextDouble() * MAX_INTEREST_RATE);
+            }
+            sink.accept(command);
+
+            GeneratedAccount account = new GeneratedAccount(Utils.generateIBAN(), owner,
+                    command.getCurrency());
+            accounts.add(account);
+            if ("savings".equals(type)) {
+                savingsAccounts.add(account);
+            } else if ("business".equals(type)) {
+                businesses.add(account);
+                associates.put(account, new ArrayList<>(List.of(owner)));
+            }
+            return account;
+        }
+
+        // Adds funds to an account, as its owner
+        private void addFunds(final Consumer<CommandInput> sink, final GeneratedAccount account) {
+            CommandInput command = command(CommandType.ADD_FUNDS);
+            command.setEmail(account.owner());
+            command.setAccount(account.iban());
+            command.setAmount(INITIAL_FUNDS);
+            sink.accept(command);
+        }
+
+        // Creates a card during the setup
+        private void createCard(final Consumer<CommandInput> sink, final GeneratedAccount account,
+                                final boolean oneTime) {
+            createCard(sink, command(oneTime ? CommandType.CREATE_ONE_TIME_CARD
+                    : CommandType.CREATE_CARD), account, oneTime);
+        }
+
+        /* Creates a card for an account, as its owner, predicting the card number the
+        application will generate. One-time cards are not paid with, since paying replaces
+        them with a number that depends on whether the payment succeeds */
+        private void createCard(final Consumer<CommandInput> sink, final CommandInput command,
+                                final GeneratedAccount account, final boolean oneTime) {
+            command.setEmail(account.owner());
+            command.setAccount(account.iban());
+            sink.accept(command);
+
+            String number = Utils.generateCardNumber();
+            allCards.add(number);
+            if (!oneTime) {
+                cards.add(new GeneratedCard(number, account,
+                        associates.getOrDefault(account, List.of(account.owner()))));
+            }
+        }
+
+        // Adds a random user as an associate of a business account during the setup
+        private void addAssociate(final Consumer<CommandInput> sink,
+                                  final GeneratedAccount business) {
+            addAssociate(sink, command(CommandType.ADD_NEW_BUSINESS_ASSOCIATE), business);
+        }
+
+        // Adds a random user as an associate of a business account, with a random role
+        private void addAssociate(final Consumer<CommandInput> sink, final CommandInput command,
+                                  final GeneratedAccount business) {
+            String email = pick(emails);
+            command.setAccount(business.iban());
+            command.setEmail(email);
+            command.setRole(pick(ROLES));
+            sink.accept(command);
+
+            List<String> holders = associates.get(business);
+            if (holders != null && !holders.contains(email)) {
+                holders.add(email);
+            }
+        }
+
+        // Returns a business account, or the given account if there is none
+        private GeneratedAccount pickBusiness(final GeneratedAccount fallback) {
+            return businesses.isEmpty() ? fallback : pick(businesses);
+        }
+
+        // Returns a savings account, or the given account if there is none
+        private GeneratedAccount pickSavings(final GeneratedAccount fallback) {
+            return savingsAccounts.isEmpty() ? fallback : pick(savingsAccounts);
+        }
+
+        // Sets a report window ending at the current timestamp
+        private void setWindow(final CommandInput command) {
+            command.setStartTimestamp(Math.max(0, timestamp - random.nextInt(REPORT_WINDOW)));
+            command.setEndTimestamp(timestamp);
+        }
+
+        // Returns a random amount with two decimals
+        private double amount() {
+            return (1 + random.nextInt(MAX_AMOUNT * CENTS)) / (double) CENTS;
+        }
+
+        private <T> T pick(final List<T> values) {
+            return values.get(random.nextInt(values.size()));
+        }
+
+        private <T> T pick(final T[] values) {
+            return values[random.nextInt(values.length)];
+        }
+
+        // Creates a command of the given type with the next timestamp
+        private CommandInput command(final CommandType type) {
+            CommandInput command = new CommandInput();
+            command.setCommand(type.getCommandName());
+            command.setTimestamp(++timestamp);
+            return command;
+        }
+    }
+
+    // Commerciant accounts are not generated by the application, so any unique IBAN works
+    private static String commerciantIban(final int id) {
+        String digits = String.format("%0" + IBAN_DIGITS + "d", id);
+        return "RO" + digits.substring(0, 2) + "POOB" + digits.substring(2);
+    }
+}
@@ -0,0 +1,143 @@
+package org.poo.fileio;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads an input file as a stream instead of binding it to an ObjectInput at once
+ * The users, exchange rates and commerciants are bound when the reader is created, then
+ * the commands are parsed one at a time as they are iterated, so only the command being
+ * executed is kept in memory
+ * If the commands come before the rest of the setup, they cannot be executed yet, so they
+ * are bound as a whole and iterated from memory instead
+ */
+public final class StreamingInputReader implements Iterator<CommandInput>, Closeable {
+    private final JsonParser parser;
+    private final ObjectInput setup = new ObjectInput();
+    // Whether the parser is positioned inside the commands array
+    private boolean streaming;
+    // Position in the commands that had to be bound as a whole
+    private int bufferedIndex;
+    private CommandInput next;
+
+    /**
+     * Opens the input file and reads the setup sections that come before the commands
+     *
+     * @param mapper The mapper used to bind the sections and commands
+     * @param file   The input file
+     * @throws IOException in case of exceptions to reading the file
+     */
+    public StreamingInputReader(final ObjectMapper mapper, final File file) throws IOException {
+        parser = mapper.createParser(file);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.close();
+            throw new JsonParseException(parser, "Expected the input to be an object");
+        }
+        readSetup();
+    }
+
+    /**
+     * Returns the users, exchange rates and commerciants of the input
+     * The commands of the returned input are only set if they had to be bound as a whole
+     *
+     * @return The setup of the input
+     */
+    public ObjectInput getSetup() {
+        return setup;
+    }
+
+    /**
+     * Checks whether there are more commands, parsing the next one if needed
+     *
+     * @return true if there is another command
+     * @throws UncheckedIOException in case of exceptions to reading the file
+     */
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+
+        if (streaming) {
+            try {
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    next = parser.readValueAs(CommandInput.class);
+                } else {
+                    streaming = false;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else if (setup.getCommands() != null && bufferedIndex < setup.getCommands().length) {
+            next = setup.getCommands()[bufferedIndex++];
+        }
+        return next != null;
+    }
+
+    /**
+     * Returns the next command
+     *
+     * @return The next command
+     * @throws NoSuchElementException if there are no more commands
+     */
+    @Override
+    public CommandInput next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CommandInput command = next;
+        next = null;
+        return command;
+    }
+
+    /**
+     * Closes the underlying parser
+     *
+     * @throws IOException in case of exceptions to closing the file
+     */
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /* Binds the sections of the input until the commands are reached. The commands are
+    streamed only if the rest of the setup was already read, otherwise they are bound
+    as a whole and the remaining sections are read after them */
+    private void readSetup() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String section = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            switch (section) {
+                case "users" -> setup.setUsers(parser.readValueAs(UserInput[].class));
+                case "exchangeRates" ->
+                        setup.setExchangeRates(parser.readValueAs(ExchangeInput[].class));
+                case "commerciants" ->
+                        setup.setCommerciants(parser.readValueAs(CommerciantInput[].class));
+                case "commands" -> {
+                    if (token == JsonToken.START_ARRAY && isSetupRead()) {
+                        streaming = true;
+                        return;
+                    }
+                    setup.setCommands(parser.readValueAs(CommandInput[].class));
+                }
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    // Checks whether every section the commands depend on was read
+    private boolean isSetupRead() {
+        return setup.getUsers() != null && setup.getExchangeRates() != null
+                && setup.getCommerciants() != null;
+    }
+}
@@ -1,9 +1,8 @@
 package org.poo.main;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.Data;
 import org.poo.commands.CommandRegistry;
+import org.poo.commerciants.CashbackRules;
 import org.poo.commerciants.Commerciant;
 import org.poo.data.CommerciantInitializer;
 import org.poo.data.DataContainer;
@@ -12,11 +11,15 @@ import org.poo.fileio.CommandInput;
 import org.poo.fileio.ObjectInput;
 import org.poo.models.ExchangeRateGraph;
 import org.poo.models.User;
+import org.poo.output.ArrayNodeSink;
+import org.poo.output.OutputSink;
+import org.poo.parallel.ShardedExecutor;
 import org.poo.split.SplitPaymentRequest;
+import org.poo.split.SplitRegistry;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The App class serves as the main entry point for processing the commands.
@@ -31,25 +34,37 @@ public final class App {
     private DataContainer dataContainer = new DataContainer();
     private CommandInput[] commands;
     private CommandRegistry commandRegistry;
-    private ArrayNode output;
-    private Queue<SplitPaymentRequest> activeSplitPayments = new LinkedList<>();
+    private OutputSink output;
+    private final SplitRegistry activeSplitPayments = new SplitRegistry();
+    // The cashback rules the commerciants and account plans of this app are built from
+    private final CashbackRules cashbackRules = CashbackRules.defaults();
 
     /**
-     * Constructs an App instance with the provided input data
+     * Constructs an App instance with the provided input data, collecting
+     * the output in memory
      *
      * @param input ObjectInput containing the initial configuration
      */
     public App(final ObjectInput input) {
-        ObjectMapper mapper = new ObjectMapper();
-        output = mapper.createArrayNode();
+        this(input, new ArrayNodeSink());
+    }
+
+    /**
+     * Constructs an App instance with the provided input data
+     *
+     * @param input  ObjectInput containing the initial configuration
+     * @param output The sink the results of the commands are written to
+     */
+    public App(final ObjectInput input, final OutputSink output) {
+        this.output = output;
 
         // Initialize the exchange rate graph
         exchangeGraph = new ExchangeRateGraph(input.getExchangeRates());
 
         // Load users
-        users = new UserInitializer().loadUsers(input.getUsers(), dataContainer);
+        users = new UserInitializer().loadUsers(input.getUsers(), dataContainer, cashbackRules);
         commerciants = new CommerciantInitializer()
-                .loadCommerciants(input.getCommerciants(), dataContainer);
+                .loadCommerciants(input.getCommerciants(), dataContainer, cashbackRules);
 
         // Initialize the command registry and load commands
         commandRegistry = new CommandRegistry();
@@ -62,16 +77,48 @@ public final class App {
      */
     public void flow() {
         for (CommandInput command : commands) {
-            if (commandRegistry.getOutputCommandMap().containsKey(command.getCommand())) {
-                output.add(commandRegistry.getOutputCommandMap()
-                        .get(command.getCommand()).execute(this, command));
-            } else if (commandRegistry.getActionCommandMap().containsKey(command.getCommand())) {
-                commandRegistry.getActionCommandMap()
-                        .get(command.getCommand()).execute(this, command);
-            }
+            execute(command);
+        }
+    }
+
+    /**
+     * Executes the commands as they are pulled from the given stream, without
+     * holding more than the current one
+     *
+     * @param commandStream The stream of commands to execute
+     */
+    public void flow(final Iterator<CommandInput> commandStream) {
+        while (commandStream.hasNext()) {
+            execute(commandStream.next());
         }
     }
 
+    /**
+     * Executes the commands pulled from the given stream on a fork-join pool
+     * Commands that touch separate accounts and users run in parallel, while the state of
+     * every account and the output are the same as with the sequential flow
+     *
+     * @param commandStream The stream of commands to execute
+     * @param pool          The pool the commands run on
+     */
+    public void flow(final Iterator<CommandInput> commandStream, final ForkJoinPool pool) {
+        new ShardedExecutor(this, pool).flow(commandStream);
+    }
+
+    /**
+     * Executes a single command through the slot of its type in the dispatch table
+     *
+     * @param command The command to execute
+     */
+    public void execute(final CommandInput command) {
+        commandRegistry.getHandler(command.getCommandType()).handle(this, command);
+    }
+
+    /**
+     * Registers a split payment request as pending
+     *
+     * @param req The request
+     */
     public void addSplitPayment(final SplitPaymentRequest req) {
         activeSplitPayments.add(req);
     }
@@ -0,0 +1,107 @@
+package org.poo.main;
+
+import org.poo.fileio.ExchangeInput;
+import org.poo.models.ExchangeRateGraph;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Use this to check the incremental rate updates of the exchange rate graph
+ * Random series of updates are applied to a graph, and after every update each rate is
+ * compared with the one of a graph built from scratch with the same rates
+ */
+public final class ExchangeRateCheck {
+    private static final String[] CURRENCIES = {
+        "RON", "EUR", "USD", "GBP", "JPY", "CAD", "CHF", "AUD", "SEK", "NOK", "PLN", "HUF"
+    };
+    private static final int SERIES = 300;
+    private static final int INITIAL_RATES = 3;
+    private static final int UPDATES = 15;
+    private static final double MIN_RATE = 0.1;
+    private static final double MAX_RATE = 5.0;
+
+    /**
+     * for coding style
+     */
+    private ExchangeRateCheck() {
+    }
+
+    /**
+     * @param args unused
+     */
+    public static void main(final String[] args) {
+        int mismatches = 0;
+        for (long seed = 1; seed <= SERIES; seed++) {
+            mismatches += checkSeries(new Random(seed));
+        }
+        System.out.println("Exchange rate mismatches: " + mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Applies one random series of updates, returning the number of rates that differ
+    private static int checkSeries(final Random random) {
+        /* The rates by pair of currencies, in the order the pairs first appear, which is
+        the order a graph built from scratch must see them in to search the same paths */
+        Map<String, ExchangeInput> rates = new LinkedHashMap<>();
+        for (int i = 0; i < INITIAL_RATES; i++) {
+            String from = CURRENCIES[random.nextInt(CURRENCIES.length / 2)];
+            String to = CURRENCIES[CURRENCIES.length / 2 + random.nextInt(CURRENCIES.length / 2)];
+            putRate(rates, from, to, nextRate(random));
+        }
+        ExchangeRateGraph graph = new ExchangeRateGraph(
+                rates.values().toArray(new ExchangeInput[0]));
+
+        int mismatches = 0;
+        for (int i = 0; i < UPDATES; i++) {
+            String from = CURRENCIES[random.nextInt(CURRENCIES.length)];
+            String to = CURRENCIES[random.nextInt(CURRENCIES.length)];
+            if (from.equals(to)) {
+                continue;
+            }
+            double rate = nextRate(random);
+            graph.updateRate(from, to, rate);
+            putRate(rates, from, to, rate);
+
+            ExchangeRateGraph rebuilt = new ExchangeRateGraph(
+                    rates.values().toArray(new ExchangeInput[0]));
+            for (String source : CURRENCIES) {
+                for (String target : CURRENCIES) {
+                    if (Double.compare(rateOf(graph, source, target),
+                            rateOf(rebuilt, source, target)) != 0) {
+                        mismatches++;
+                    }
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    // Sets the rate of a pair of currencies, keeping the place of the pair if it is known
+    private static void putRate(final Map<String, ExchangeInput> rates, final String from,
+                                final String to, final double rate) {
+        ExchangeInput input = new ExchangeInput();
+        input.setFrom(from);
+        input.setTo(to);
+        input.setRate(rate);
+        String pair = from.compareTo(to) < 0 ? from + "/" + to : to + "/" + from;
+        rates.put(pair, input);
+    }
+
+    private static double nextRate(final Random random) {
+        return MIN_RATE + random.nextDouble() * (MAX_RATE - MIN_RATE);
+    }
+
+    // Returns the rate between two currencies, or NaN if the graph cannot convert them
+    private static double rateOf(final ExchangeRateGraph graph, final String from,
+                                 final String to) {
+        try {
+            return graph.findExchangeRate(from, to);
+        } catch (IllegalArgumentException e) {
+            return Double.NaN;
+        }
+    }
+}
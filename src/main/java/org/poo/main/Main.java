@@ -1,11 +1,11 @@
 package org.poo.main;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.poo.checker.Checker;
 import org.poo.checker.CheckerConstants;
-import org.poo.fileio.ObjectInput;
+import org.poo.fileio.StreamingInputReader;
+import org.poo.output.JsonGeneratorSink;
+import org.poo.output.OutputSink;
 import org.poo.utils.Utils;
 
 import java.io.File;
@@ -16,11 +16,18 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The entry point to this homework. It runs the checker that tests your implementation.
  */
 public final class Main {
+    /**
+     * System property setting the number of threads the commands run on; the commands
+     * run one after the other unless it is above one
+     */
+    public static final String PARALLELISM_PROPERTY = "poo.parallelism";
+
     /**
      * for coding style
      */
@@ -71,16 +78,21 @@ public final class Main {
                               final String filePath2) throws IOException {
         ObjectMapper objectMapper = new ObjectMapper();
         File file = new File(CheckerConstants.TESTS_PATH + filePath1);
-        ObjectInput inputData = objectMapper.readValue(file, ObjectInput.class);
 
-        ArrayNode output = objectMapper.createArrayNode();
-        Utils.resetRandom();
-        App app = new App(inputData);
-        app.flow();
-        output.addAll(app.getOutput());
+        try (StreamingInputReader input = new StreamingInputReader(objectMapper, file);
+             OutputSink output = JsonGeneratorSink.open(objectMapper, Paths.get(filePath2))) {
+            Utils.resetRandom();
+            App app = new App(input.getSetup(), output);
 
-        ObjectWriter objectWriter = objectMapper.writerWithDefaultPrettyPrinter();
-        objectWriter.writeValue(new File(filePath2), output);
+            int parallelism = Integer.getInteger(PARALLELISM_PROPERTY, 1);
+            if (parallelism > 1) {
+                try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+                    app.flow(input, pool);
+                }
+            } else {
+                app.flow(input);
+            }
+        }
     }
 
     /**
@@ -1,9 +1,12 @@
 package org.poo.models;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import org.poo.exceptions.AccountTypeException;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
@@ -11,7 +14,6 @@ import org.poo.models.roles.Role;
 import org.poo.utils.Utils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
 
 import static org.poo.utils.Constants.*;
@@ -23,45 +25,37 @@ import static org.poo.utils.Constants.*;
 @Data
 public class Account {
     private String iban;
-    private double balance;
+    // Read and updated through getBalance, setBalance and getBalanceCell
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final BalanceCell balance = new BalanceCell();
     private String currency;
-    private String type;
+    private AccountType type;
     private double minBalance;
     private ArrayList<Card> cards;
     private String alias;
     private TransactionHandler transactionHandler;
-    private double spendingAmount;
     private int numTransactions;
     private int silverTransactions;
-    private HashMap<String, Integer> requiredTransactions = new HashMap<>();
-    private HashMap<String, Double> discounts = new HashMap<>();
+    private final CashbackLedger cashback = new CashbackLedger();
 
     /**
      * Constructs an Account instance based on the provided command input.
      *
-     * @param input CommandInput containing details to initialize the account.
+     * @param input   CommandInput containing details to initialize the account.
+     * @param journal The journal the account's transactions are stored in.
      */
-    public Account(final CommandInput input) {
+    public Account(final CommandInput input, final TransactionJournal journal) {
         iban = Utils.generateIBAN();
-        balance = 0.0;
         minBalance = 0.0;
-        spendingAmount = 0.0;
         numTransactions = 0;
         silverTransactions = 0;
         currency = input.getCurrency();
-        type = input.getAccountType();
+        type = AccountType.fromName(input.getAccountType());
         cards = new ArrayList<>();
 
         // Initialize the transaction handler
-        transactionHandler = new TransactionHandler();
-
-        requiredTransactions.put("Food", MIN_TRANSACTIONS_FOOD_DISCOUNT);
-        requiredTransactions.put("Clothes", MIN_TRANSACTIONS_CLOTHES_DISCOUNT);
-        requiredTransactions.put("Tech", MIN_TRANSACTIONS_TECH_DISCOUNT);
-
-        discounts.put("Food", FOOD_DISCOUNT_RATE);
-        discounts.put("Clothes", CLOTHES_DISCOUNT_RATE);
-        discounts.put("Tech", TECH_DISCOUNT_RATE);
+        transactionHandler = new TransactionHandler(journal);
     }
 
     /**
@@ -70,14 +64,13 @@ public class Account {
      * @return ObjectNode containing the account's details in JSON format.
      */
     public ObjectNode toJson() {
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode accountNode = mapper.createObjectNode();
-        ArrayNode cardsArray = mapper.createArrayNode();
+        ObjectNode accountNode = JsonNodeFactory.instance.objectNode();
+        ArrayNode cardsArray = JsonNodeFactory.instance.arrayNode();
 
         accountNode.put("IBAN", iban);
-        accountNode.put("balance", balance);
+        accountNode.put("balance", balance.get());
         accountNode.put("currency", currency);
-        accountNode.put("type", type);
+        accountNode.put("type", type.getTypeName());
 
         for (Card card : cards) {
             cardsArray.add(card.toJson());
@@ -87,12 +80,32 @@ public class Account {
     }
 
     /**
-     * Adds a specified amount to the total spending amount of the account
+     * Returns the current balance of the account
+     *
+     * @return The balance
+     */
+    public double getBalance() {
+        return balance.get();
+    }
+
+    /**
+     * Replaces the balance of the account
+     * Updates that depend on the current balance should go through getBalanceCell,
+     * which applies them atomically
+     *
+     * @param amount The new balance
+     */
+    public void setBalance(final double amount) {
+        balance.set(amount);
+    }
+
+    /**
+     * Returns the cell holding the balance, to credit and debit it atomically
      *
-     * @param amount The amount to add to the spending total
+     * @return The balance cell
      */
-    public void addSpendingAmount(final double amount) {
-        spendingAmount += amount;
+    public BalanceCell getBalanceCell() {
+        return balance;
     }
 
     /**
@@ -103,7 +116,7 @@ public class Account {
      */
     public void addCashback(final App app, final double amount) {
         double amountToAdd = amount * app.getExchangeGraph().findExchangeRate("RON", currency);
-        balance += amountToAdd;
+        balance.credit(amountToAdd);
     }
 
     /**
@@ -111,13 +124,12 @@ public class Account {
      *
      * @param app      The application context
      * @param amount   The cashback amount in RON
-     * @param category The category for which the cashback is applied
+     * @param category The index of the category for which the cashback is applied
      */
-    public void addCashback(final App app, final double amount, final String category) {
+    public void addCashback(final App app, final double amount, final int category) {
         double amountToAdd = amount * app.getExchangeGraph().findExchangeRate("RON", currency);
-        balance += amountToAdd;
-        requiredTransactions.remove(category);
-        discounts.remove(category);
+        balance.credit(amountToAdd);
+        cashback.consumeDiscount(category);
     }
 
     /**
@@ -203,11 +215,11 @@ public class Account {
         return null;
     }
 
-    public Map<String, Double> getSpentByUser() {
-        return null;
+    public double getSpentByUser(final String email) {
+        return 0.0;
     }
 
-    public Map<String, Double> getDepositedByUser() {
-        return null;
+    public double getDepositedByUser(final String email) {
+        return 0.0;
     }
 }
@@ -12,15 +12,20 @@ public final class AccountFactory {
     /**
      * Creates an Account object using the provided input
      *
-     * @param input CommandInput containing the configuration for the account
+     * @param input   CommandInput containing the configuration for the account
+     * @param journal The journal the account's transactions are stored in
      * @return A new Account instance
      */
-    public static Account createAccount(final CommandInput input) {
-        return switch (input.getAccountType()) {
-            case "classic" -> new Account(input);
-            case "savings" -> new SavingsAccount(input);
-            case "business" -> new BusinessAccount(input);
-            default -> null;
+    public static Account createAccount(final CommandInput input,
+                                        final TransactionJournal journal) {
+        AccountType type = AccountType.fromName(input.getAccountType());
+        if (type == null) {
+            return null;
+        }
+        return switch (type) {
+            case CLASSIC -> new Account(input, journal);
+            case SAVINGS -> new SavingsAccount(input, journal);
+            case BUSINESS -> new BusinessAccount(input, journal);
         };
     }
 }
@@ -0,0 +1,42 @@
+package org.poo.models;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The types of accounts a user can open
+ * The type named in the input is resolved once, when the account is created, so the
+ * commands branch on the enum instead of comparing names
+ */
+@Getter
+public enum AccountType {
+    CLASSIC("classic"),
+    SAVINGS("savings"),
+    BUSINESS("business");
+
+    private static final Map<String, AccountType> BY_NAME = new HashMap<>();
+
+    static {
+        for (AccountType type : values()) {
+            BY_NAME.put(type.typeName, type);
+        }
+    }
+
+    private final String typeName;
+
+    AccountType(final String typeName) {
+        this.typeName = typeName;
+    }
+
+    /**
+     * Resolves an account type name to its type
+     *
+     * @param name The name of the type, as it appears in the input
+     * @return The type, or null if the name is not supported
+     */
+    public static AccountType fromName(final String name) {
+        return name == null ? null : BY_NAME.get(name);
+    }
+}
@@ -0,0 +1,66 @@
+package org.poo.models;
+
+import java.util.Arrays;
+
+/**
+ * Records the associates of a business account that paid a commerciant, in payment order
+ * Consecutive payments of the same associate are kept as one run of its id with a counter,
+ * so the memory grows with the number of changes of associate and not with the number of
+ * payments
+ */
+public final class AssociatePayments {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Records one more payment of an associate, after the ones recorded before
+     *
+     * @param id The id of the associate
+     */
+    public void add(final int id) {
+        if (size > 0 && ids[size - 1] == id) {
+            counts[size - 1]++;
+            return;
+        }
+
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            counts = Arrays.copyOf(counts, size * 2);
+        }
+        ids[size] = id;
+        counts[size] = 1;
+        size++;
+    }
+
+    /**
+     * Returns the number of runs of payments recorded
+     *
+     * @return The number of runs
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the id of the associate that made a run of payments
+     *
+     * @param index The position of the run, in payment order, below the size
+     * @return The id of the associate
+     */
+    public int getId(final int index) {
+        return ids[index];
+    }
+
+    /**
+     * Returns the number of consecutive payments in a run
+     *
+     * @param index The position of the run, in payment order, below the size
+     * @return The number of payments
+     */
+    public int getCount(final int index) {
+        return counts[index];
+    }
+}
@@ -0,0 +1,163 @@
+package org.poo.models;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Holds the balance of an account and updates it atomically, without a lock
+ * The balance is kept as the raw bits of a double in an AtomicLong and every update is a
+ * compare-and-set loop, so a check and the debit it guards happen as one step: two
+ * payments racing on the same account can never both pass the check on the same funds
+ * The arithmetic is the same double arithmetic the accounts always used, so every result
+ * is identical to the read-modify-write it replaces
+ * A {@link BalanceReservation} debiting several accounts seals their balances under a lock
+ * instead: while a balance is sealed it can still be read, and the other updates wait for
+ * the reservation to release it
+ */
+public final class BalanceCell {
+    // The bits of a sealed balance: a signalling NaN, which no arithmetic produces
+    private static final long SEALED = 0x7ff0000000000001L;
+
+    private final AtomicLong bits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+    // Held by the reservation that sealed the balance, until it releases it
+    private final ReentrantLock reservationLock = new ReentrantLock();
+    // The balance when it was last sealed
+    private volatile double sealedBalance;
+
+    /**
+     * Returns the current balance
+     *
+     * @return The balance
+     */
+    public double get() {
+        long current = bits.get();
+        return current == SEALED ? sealedBalance : Double.longBitsToDouble(current);
+    }
+
+    /**
+     * Replaces the balance
+     *
+     * @param balance The new balance
+     */
+    public void set(final double balance) {
+        update(current -> balance);
+    }
+
+    /**
+     * Adds an amount to the balance
+     *
+     * @param amount The amount to add
+     * @return The new balance
+     */
+    public double credit(final double amount) {
+        return update(balance -> balance + amount);
+    }
+
+    /**
+     * Subtracts an amount from the balance, even if it becomes negative
+     *
+     * @param amount The amount to subtract
+     * @return The new balance
+     */
+    public double debit(final double amount) {
+        return update(balance -> balance - amount);
+    }
+
+    /**
+     * Subtracts an amount from the balance only if the balance is at least the required
+     * amount. The required amount is usually the amount itself, but a fee may be charged
+     * on top of a payment that only had to be covered without it
+     *
+     * @param amount   The amount to subtract
+     * @param required The smallest balance the debit is allowed from
+     * @return true if the amount was debited, false if the balance was too low
+     */
+    public boolean tryDebit(final double amount, final double required) {
+        while (true) {
+            long current = awaitUnsealed();
+            double balance = Double.longBitsToDouble(current);
+            if (balance < required) {
+                return false;
+            }
+            if (bits.compareAndSet(current, Double.doubleToRawLongBits(balance - amount))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Subtracts an amount from the balance only if the balance covers it
+     *
+     * @param amount The amount to subtract
+     * @return true if the amount was debited, false if the balance was too low
+     */
+    public boolean tryDebit(final double amount) {
+        return tryDebit(amount, amount);
+    }
+
+    /**
+     * Replaces the balance with a function of it, such as the balance with its interest
+     *
+     * @param function The function computing the new balance from the current one
+     * @return The new balance
+     */
+    public double update(final DoubleUnaryOperator function) {
+        while (true) {
+            long current = awaitUnsealed();
+            double balance = function.applyAsDouble(Double.longBitsToDouble(current));
+            if (bits.compareAndSet(current, Double.doubleToRawLongBits(balance))) {
+                return balance;
+            }
+        }
+    }
+
+    /**
+     * Seals the balance for a reservation, waiting for any other reservation holding it
+     * The balance keeps its value until the reservation releases it, and every other
+     * update waits until then
+     *
+     * @return The balance
+     */
+    double seal() {
+        reservationLock.lock();
+        while (true) {
+            long current = bits.get();
+            sealedBalance = Double.longBitsToDouble(current);
+            if (bits.compareAndSet(current, SEALED)) {
+                return sealedBalance;
+            }
+        }
+    }
+
+    /**
+     * Releases a balance sealed by the current thread, replacing it
+     *
+     * @param balance The new balance, or the sealed one to leave it unchanged
+     */
+    void release(final double balance) {
+        bits.set(Double.doubleToRawLongBits(balance));
+        reservationLock.unlock();
+    }
+
+    // Reads the bits of the balance, waiting for the reservation sealing it to release it
+    private long awaitUnsealed() {
+        long current = bits.get();
+        while (current == SEALED) {
+            reservationLock.lock();
+            reservationLock.unlock();
+            current = bits.get();
+        }
+        return current;
+    }
+
+    /**
+     * Returns the balance as a string, so the accounts print their balance
+     *
+     * @return The balance as a string
+     */
+    @Override
+    public String toString() {
+        return Double.toString(get());
+    }
+}
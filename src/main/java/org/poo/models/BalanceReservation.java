@@ -0,0 +1,97 @@
+package org.poo.models;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Takes amounts from several accounts as one unit: either every account is debited or
+ * none is
+ * The balances of the accounts are sealed one at a time in the order of their IBANs, so two
+ * reservations over the same accounts always meet on the same account first and never
+ * wait for each other in a cycle. Every amount is checked while all the balances are
+ * sealed, and only then are the balances released with the amounts taken, so no account is
+ * debited unless all of them can pay. The other updates of a sealed balance wait for it to
+ * be released; reads do not, so an account read while the balances are being released may
+ * already show its debit while another one does not yet
+ */
+public final class BalanceReservation {
+    private final List<Entry> entries = new ArrayList<>();
+    private Account failedAccount;
+
+    // An amount to take from an account, if the balance before the reservation covers it
+    private record Entry(Account account, double amount, double required) {
+    }
+
+    /**
+     * Adds an amount to the reservation
+     * An account may be added more than once; every one of its amounts must then be
+     * covered by the balance the account had before any of them was taken
+     *
+     * @param account  The account to debit
+     * @param amount   The amount to debit
+     * @param required The smallest balance the amount may be debited from
+     * @return The current reservation, for chaining
+     */
+    public BalanceReservation add(final Account account, final double amount,
+                                  final double required) {
+        entries.add(new Entry(account, amount, required));
+        return this;
+    }
+
+    /**
+     * Debits every amount of the reservation, or none of them
+     *
+     * @return true if every account was debited, false if one could not cover its amounts
+     */
+    public boolean commit() {
+        // A stable sort keeps the amounts of an account in the order they were added
+        List<Entry> ordered = new ArrayList<>(entries);
+        ordered.sort(Comparator.comparing(entry -> entry.account().getIban()));
+
+        // The balance of every account, at the index of its first entry
+        double[] balances = new double[ordered.size()];
+        for (int i = 0; i < ordered.size(); i = nextAccount(ordered, i)) {
+            balances[i] = ordered.get(i).account().getBalanceCell().seal();
+        }
+
+        failedAccount = null;
+        double[] remaining = balances.clone();
+        for (int i = 0; i < ordered.size() && failedAccount == null;
+             i = nextAccount(ordered, i)) {
+            int end = nextAccount(ordered, i);
+            for (int j = i; j < end && failedAccount == null; j++) {
+                if (balances[i] < ordered.get(j).required()) {
+                    failedAccount = ordered.get(i).account();
+                } else {
+                    remaining[i] -= ordered.get(j).amount();
+                }
+            }
+        }
+
+        for (int i = 0; i < ordered.size(); i = nextAccount(ordered, i)) {
+            ordered.get(i).account().getBalanceCell()
+                    .release(failedAccount == null ? remaining[i] : balances[i]);
+        }
+        return failedAccount == null;
+    }
+
+    /**
+     * Returns the account that could not cover its amounts in the last commit
+     *
+     * @return The account, or null if the commit succeeded
+     */
+    public Account getFailedAccount() {
+        return failedAccount;
+    }
+
+    // Returns the index of the first entry after the given one with a different account
+    private static int nextAccount(final List<Entry> ordered, final int from) {
+        int next = from + 1;
+        Account account = ordered.get(from).account();
+        while (next < ordered.size() && ordered.get(next).account() == account) {
+            next++;
+        }
+        return next;
+    }
+}
@@ -5,9 +5,8 @@ import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.roles.Role;
 import org.poo.models.roles.RoleFactory;
+import org.poo.models.roles.RoleType;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -16,23 +15,36 @@ import static org.poo.utils.Constants.INITIAL_SPENDING_LIMIT;
 
 @Data
 public final class BusinessAccount extends Account {
+    // The columns of the totals kept for every associate
+    private static final int SPENT = 0;
+    private static final int DEPOSITED = 1;
+    private static final int ASSOCIATE_COLUMNS = 2;
+    // The column of the total every commerciant received
+    private static final int RECEIVED = 0;
+
     private Map<String, Role> roles;
-    private Map<String, Double> commerciantTotals;
-    private Map<String, ArrayList<String>> commerciantUsers;
+    private final TotalsTable commerciantTotals = new TotalsTable(1);
+    private Map<String, AssociatePayments> commerciantUsers;
     private double spendingLimit;
     private double depositLimit;
-    private Map<String, Double> spentByUser;
-    private Map<String, Double> depositedByUser;
+    private final TotalsTable associateTotals = new TotalsTable(ASSOCIATE_COLUMNS);
 
-    public BusinessAccount(final CommandInput input) {
-        super(input);
+    public BusinessAccount(final CommandInput input, final TransactionJournal journal) {
+        super(input, journal);
         roles = new LinkedHashMap<>();
-        commerciantTotals = new HashMap<>();
         commerciantUsers = new LinkedHashMap<>();
-        spentByUser = new HashMap<>();
-        depositedByUser = new HashMap<>();
 
-        roles.put(input.getEmail(), RoleFactory.createRole("owner"));
+        roles.put(input.getEmail(), RoleFactory.createRole(RoleType.OWNER));
+    }
+
+    /**
+     * Returns the total a commerciant received from the employees of the account
+     *
+     * @param commerciant The name of the commerciant
+     * @return The total received
+     */
+    public double getCommerciantTotal(final String commerciant) {
+        return commerciantTotals.get(commerciant, RECEIVED);
     }
 
     @Override
@@ -65,12 +77,12 @@ public final class BusinessAccount extends Account {
 
     @Override
     public void addDepositByUser(final double amount, final String email) {
-        depositedByUser.put(email, depositedByUser.getOrDefault(email, 0.0) + amount);
+        associateTotals.add(email, DEPOSITED, amount);
     }
 
     @Override
     public void addSpentByUser(final double amount, final String email) {
-        spentByUser.put(email, spentByUser.getOrDefault(email, 0.0) + amount);
+        associateTotals.add(email, SPENT, amount);
     }
 
     @Override
@@ -89,21 +101,31 @@ public final class BusinessAccount extends Account {
     }
 
     @Override
-    public Map<String, Double> getSpentByUser() {
-        return spentByUser;
+    public double getSpentByUser(final String email) {
+        return associateTotals.get(email, SPENT);
     }
 
     @Override
-    public Map<String, Double> getDepositedByUser() {
-        return depositedByUser;
+    public double getDepositedByUser(final String email) {
+        return associateTotals.get(email, DEPOSITED);
     }
 
     public void addCommerciantTransaction(final String commerciant, final String email,
                                           final double amount) {
-        if (getRole(email).getType().equals("employee")) {
-            commerciantTotals.put(commerciant, commerciantTotals
-                    .getOrDefault(commerciant, 0.0) + amount);
+        if (getRole(email).getType() == RoleType.EMPLOYEE) {
+            commerciantTotals.add(commerciant, RECEIVED, amount);
         }
-        commerciantUsers.computeIfAbsent(commerciant, k -> new ArrayList<>()).add(email);
+        commerciantUsers.computeIfAbsent(commerciant, k -> new AssociatePayments())
+                .add(associateTotals.idOf(email));
+    }
+
+    /**
+     * Returns the email of an associate of the account
+     *
+     * @param id The id the associate was given when its totals were first updated
+     * @return The email of the associate
+     */
+    public String getAssociate(final int id) {
+        return associateTotals.getNames().get(id);
     }
 }
@@ -1,6 +1,6 @@
 package org.poo.models;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Data;
 import org.poo.utils.Utils;
@@ -31,8 +31,7 @@ public final class Card {
      * @return ObjectNode containing the card's details in JSON format
      */
     public ObjectNode toJson() {
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode cardNode = mapper.createObjectNode();
+        ObjectNode cardNode = JsonNodeFactory.instance.objectNode();
 
         cardNode.put("cardNumber", cardNumber);
         cardNode.put("status", status);
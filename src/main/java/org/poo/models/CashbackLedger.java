@@ -0,0 +1,98 @@
+package org.poo.models;
+
+import java.util.Arrays;
+
+/**
+ * The cashback state of an account: how many payments it made to every commerciant
+ * counting transactions, which category discounts it already received and how much it
+ * spent at commerciants with spending thresholds
+ * The payments are counted in an array indexed by the index of the commerciant, which is
+ * only allocated by the first payment counted, and every category discount is a bit of a
+ * mask indexed like the categories of the cashback rules, so a new account allocates
+ * nothing but the ledger
+ */
+public final class CashbackLedger {
+    private static final int[] NO_TRANSACTIONS = new int[0];
+
+    private int[] commerciantTransactions = NO_TRANSACTIONS;
+    // The most payments made to one commerciant counting transactions
+    private int maxCommerciantTransactions;
+    // Bit i is set once the discount of category i was received
+    private int consumedDiscounts;
+    private double spendingAmount;
+
+    /**
+     * Counts one more payment to a commerciant counting transactions
+     *
+     * @param commerciant The index of the commerciant
+     * @return The number of payments made to the commerciant
+     */
+    public int countTransaction(final int commerciant) {
+        if (commerciant >= commerciantTransactions.length) {
+            commerciantTransactions = Arrays.copyOf(commerciantTransactions,
+                    Math.max(commerciant + 1, commerciantTransactions.length * 2));
+        }
+        int count = ++commerciantTransactions[commerciant];
+        maxCommerciantTransactions = Math.max(maxCommerciantTransactions, count);
+        return count;
+    }
+
+    /**
+     * Returns the number of payments made to a commerciant
+     *
+     * @param commerciant The index of the commerciant
+     * @return The number of payments, 0 if the commerciant does not count transactions
+     */
+    public int getTransactions(final int commerciant) {
+        return commerciant < commerciantTransactions.length
+                ? commerciantTransactions[commerciant] : 0;
+    }
+
+    /**
+     * Returns the most payments made to one commerciant counting transactions
+     *
+     * @return The number of payments
+     */
+    public int getMaxCommerciantTransactions() {
+        return maxCommerciantTransactions;
+    }
+
+    /**
+     * Checks whether the account may still receive the discount of a category
+     *
+     * @param category The index of the category of a commerciant, -1 if it has no discount
+     * @return true if the category has a discount the account did not receive yet
+     */
+    public boolean hasDiscount(final int category) {
+        return category >= 0 && (consumedDiscounts & (1 << category)) == 0;
+    }
+
+    /**
+     * Records that the account received the discount of a category
+     *
+     * @param category The index of the category, -1 if it has no discount
+     */
+    public void consumeDiscount(final int category) {
+        if (category >= 0) {
+            consumedDiscounts |= 1 << category;
+        }
+    }
+
+    /**
+     * Returns the amount spent at commerciants with spending thresholds
+     *
+     * @return The amount spent
+     */
+    public double getSpendingAmount() {
+        return spendingAmount;
+    }
+
+    /**
+     * Adds an amount to the amount spent at commerciants with spending thresholds
+     *
+     * @param amount The amount to add
+     */
+    public void addSpendingAmount(final double amount) {
+        spendingAmount += amount;
+    }
+}
@@ -4,12 +4,19 @@ import org.poo.fileio.ExchangeInput;
 import org.poo.utils.Pair;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 /**
  * Represents a graph structure to manage and retrieve exchange rates between currencies
+ * Every currency is interned to an int id when the graph is built, and the rates between
+ * all pairs of currencies are precomputed into a dense matrix, so a lookup does not
+ * have to traverse the graph
+ * The matrix is published as an immutable snapshot: rate updates build a new snapshot
+ * that shares the rows they do not touch, so lookups never need a lock
  */
 public final class ExchangeRateGraph {
     private final Map<String, Map<String, Double>> graph = new HashMap<>();
+    private volatile RateTable table;
 
     /**
      * Constructs an ExchangeRateGraph and initializes it with the provided exchange rates
@@ -17,6 +24,7 @@ public final class ExchangeRateGraph {
      * @param inputs Array of ExchangeInput objects
      */
     public ExchangeRateGraph(final ExchangeInput[] inputs) {
+        Map<String, Integer> currencyIds = new HashMap<>();
         for (ExchangeInput input : inputs) {
             // Ensure both currencies are present in the graph
             graph.putIfAbsent(input.getFrom(), new HashMap<>());
@@ -25,11 +33,22 @@ public final class ExchangeRateGraph {
             // Add the exchange rate and its inverse to the graph
             graph.get(input.getFrom()).put(input.getTo(), input.getRate());
             graph.get(input.getTo()).put(input.getFrom(), 1.0 / input.getRate());
+
+            // Intern both currencies in the order they first appear
+            currencyIds.putIfAbsent(input.getFrom(), currencyIds.size());
+            currencyIds.putIfAbsent(input.getTo(), currencyIds.size());
+        }
+
+        // Precompute the transitive closure, one row per source currency
+        double[][] rates = new double[currencyIds.size()][];
+        for (Map.Entry<String, Integer> currency : currencyIds.entrySet()) {
+            rates[currency.getValue()] = computeRates(currency.getKey(), currencyIds);
         }
+        table = new RateTable(currencyIds, rates);
     }
 
     /**
-     * Finds the exchange rate between two currencies using breadth-first search
+     * Finds the exchange rate between two currencies using the precomputed rate matrix
      *
      * @param from Source currency
      * @param to   Target currency
@@ -37,6 +56,85 @@ public final class ExchangeRateGraph {
      * @throws IllegalArgumentException if the currencies are not supported or no path exists
      */
     public double findExchangeRate(final String from, final String to) {
+        RateTable current = table;
+        Integer fromId = current.currencyIds.get(from);
+        Integer toId = current.currencyIds.get(to);
+        if (fromId == null || toId == null) {
+            throw new IllegalArgumentException("Currencies not supported");
+        }
+
+        double rate = current.rate(fromId, toId);
+        if (Double.isNaN(rate)) {
+            throw new IllegalArgumentException("No conversion path found");
+        }
+        return rate;
+    }
+
+    /**
+     * Sets the exchange rate between two currencies, adding them if they are new
+     * Only the rows of the currencies whose rates change are rebuilt. Joining two separate
+     * groups of currencies keeps the rates inside each group and walks only the other
+     * group from every row, costing about one entry per new pair. Changing a rate inside
+     * a group may change the path between any two of its currencies, so every row of the
+     * group is recomputed with a full search, costing the size of the group times a search
+     * Either way, every rate is the one a graph built from scratch with the same rates finds
+     *
+     * @param from Source currency
+     * @param to   Target currency
+     * @param rate The new exchange rate from the source to the target currency
+     * @throws IllegalArgumentException if the rate is not positive or the currencies are equal
+     */
+    public synchronized void updateRate(final String from, final String to, final double rate) {
+        if (!(rate > 0) || from.equals(to)) {
+            throw new IllegalArgumentException("Invalid exchange rate");
+        }
+
+        graph.putIfAbsent(from, new HashMap<>());
+        graph.putIfAbsent(to, new HashMap<>());
+        graph.get(from).put(to, rate);
+        graph.get(to).put(from, 1.0 / rate);
+
+        RateTable current = table;
+        Map<String, Integer> currencyIds = current.currencyIds;
+        if (!currencyIds.containsKey(from) || !currencyIds.containsKey(to)) {
+            currencyIds = new HashMap<>(currencyIds);
+            currencyIds.putIfAbsent(from, currencyIds.size());
+            currencyIds.putIfAbsent(to, currencyIds.size());
+        }
+
+        int fromId = currencyIds.get(from);
+        int toId = currencyIds.get(to);
+        int size = currencyIds.size();
+        double[][] rates = Arrays.copyOf(current.rates, size);
+
+        int[] fromGroup = current.group(fromId);
+        int[] toGroup = current.group(toId);
+
+        if (Double.isNaN(current.rate(fromId, toId))) {
+            // The currencies were not connected, so only rates across the two groups change
+            joinGroups(current, rates, currencyIds, fromGroup, fromId, toId);
+            joinGroups(current, rates, currencyIds, toGroup, toId, fromId);
+        } else {
+            // Rates inside the group may now take a different path
+            for (int id : fromGroup) {
+                rates[id] = computeRates(current.currencies[id], currencyIds);
+            }
+        }
+
+        table = new RateTable(currencyIds, rates);
+    }
+
+    /**
+     * Finds the exchange rate between two currencies using breadth-first search
+     * This walks the graph on every call and is kept as the reference implementation
+     * the precomputed matrix is checked and benchmarked against
+     *
+     * @param from Source currency
+     * @param to   Target currency
+     * @return The exchange rate from the source currency to the target currency
+     * @throws IllegalArgumentException if the currencies are not supported or no path exists
+     */
+    public synchronized double findExchangeRateByTraversal(final String from, final String to) {
         if (!graph.containsKey(from) || !graph.containsKey(to)) {
             throw new IllegalArgumentException("Currencies not supported");
         }
@@ -66,4 +164,115 @@ public final class ExchangeRateGraph {
         }
         throw new IllegalArgumentException("No conversion path found");
     }
+
+    /* Computes the rates from the source currency to every other currency with a single
+    breadth-first search. The traversal order is the same as the one used by
+    findExchangeRateByTraversal, so the first time a currency is reached gives the same
+    rate; unreachable currencies are left as NaN */
+    private double[] computeRates(final String from, final Map<String, Integer> currencyIds) {
+        double[] row = new double[currencyIds.size()];
+        Arrays.fill(row, Double.NaN);
+        walk(row, from, 1.0, new boolean[currencyIds.size()], currencyIds);
+        return row;
+    }
+
+    /* Fills in a row with the rates of the currencies reached from the start currency,
+    which is reached at the given rate, skipping the currencies already visited. The
+    breadth-first search and its products are those of findExchangeRateByTraversal */
+    private void walk(final double[] row, final String start, final double startRate,
+                      final boolean[] visited, final Map<String, Integer> currencyIds) {
+        Queue<Pair<String, Double>> queue = new LinkedList<>();
+        queue.add(new Pair<>(start, startRate));
+
+        while (!queue.isEmpty()) {
+            Pair<String, Double> current = queue.poll();
+            int currentId = currencyIds.get(current.getKey());
+
+            // A currency may be queued more than once, only its first visit counts
+            if (visited[currentId]) {
+                continue;
+            }
+            visited[currentId] = true;
+            row[currentId] = current.getValue();
+
+            for (Map.Entry<String, Double> node : graph.get(current.getKey()).entrySet()) {
+                if (!visited[currencyIds.get(node.getKey())]) {
+                    queue.add(new Pair<>(node.getKey(), current.getValue() * node.getValue()));
+                }
+            }
+        }
+    }
+
+    /* Rebuilds the rows of the source group after it was connected to the target group
+    through the new source -> target rate. Rates inside the source group stay the same.
+    A search from a source currency only reaches the target group through the new rate,
+    and walks it in the same order as a search from the target that does not enter the
+    source group, so every row walks the target group alone */
+    private void joinGroups(final RateTable current, final double[][] rates,
+                            final Map<String, Integer> currencyIds,
+                            final int[] sourceGroup, final int sourceId, final int targetId) {
+        String[] currencies = new String[currencyIds.size()];
+        currencyIds.forEach((currency, id) -> currencies[id] = currency);
+        double rate = graph.get(currencies[sourceId]).get(currencies[targetId]);
+
+        boolean[] sourceSide = new boolean[currencyIds.size()];
+        for (int i : sourceGroup) {
+            sourceSide[i] = true;
+        }
+
+        for (int i : sourceGroup) {
+            double[] row = new double[currencyIds.size()];
+            Arrays.fill(row, Double.NaN);
+            if (current.rates.length > i) {
+                System.arraycopy(current.rates[i], 0, row, 0, current.rates[i].length);
+            } else {
+                row[i] = 1.0;
+            }
+
+            walk(row, currencies[targetId], current.rate(i, sourceId) * rate,
+                    sourceSide.clone(), currencyIds);
+            rates[i] = row;
+        }
+    }
+
+    /**
+     * An immutable snapshot of the interned currencies and their rate matrix
+     * Rows may be shorter than the number of currencies when they were built before
+     * a currency was added; the missing columns are unreachable
+     */
+    private static final class RateTable {
+        private final Map<String, Integer> currencyIds;
+        private final String[] currencies;
+        private final double[][] rates;
+
+        private RateTable(final Map<String, Integer> currencyIds, final double[][] rates) {
+            this.currencyIds = currencyIds;
+            this.rates = rates;
+            currencies = new String[currencyIds.size()];
+            for (Map.Entry<String, Integer> currency : currencyIds.entrySet()) {
+                currencies[currency.getValue()] = currency.getKey();
+            }
+        }
+
+        // Returns the rate between two ids, or NaN if there is no conversion path
+        private double rate(final int from, final int to) {
+            if (from == to) {
+                return 1.0;
+            }
+            if (from >= rates.length || to >= rates[from].length) {
+                return Double.NaN;
+            }
+            return rates[from][to];
+        }
+
+        // Returns the ids of the currencies that can be converted to the given one
+        private int[] group(final int id) {
+            if (id >= rates.length) {
+                return new int[] {id};
+            }
+            return IntStream.range(0, rates[id].length)
+                    .filter(other -> !Double.isNaN(rates[id][other]))
+                    .toArray();
+        }
+    }
 }
@@ -7,15 +7,14 @@ import org.poo.fileio.CommandInput;
 public final class SavingsAccount extends Account {
     private double interestRate;
 
-    public SavingsAccount(final CommandInput input) {
-        super(input);
+    public SavingsAccount(final CommandInput input, final TransactionJournal journal) {
+        super(input, journal);
         interestRate = input.getInterestRate();
     }
 
     @Override
     public void addInterest() {
-        double interest = getBalance() * interestRate;
-        setBalance(getBalance() + interest);
+        getBalanceCell().update(balance -> balance + balance * interestRate);
     }
 
     @Override
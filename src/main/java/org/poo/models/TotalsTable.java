@@ -0,0 +1,128 @@
+package org.poo.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Running totals kept per name, such as the amounts every associate of a business account
+ * spent and deposited
+ * Names are stored in an open-addressing table and every name owns a row of primitive
+ * accumulators, one per column, so adding to a total takes a single probe and allocates
+ * nothing once the name has a row
+ * Like the maps it replaces, the table is not synchronized: an account is only updated by
+ * the shard that owns it
+ */
+public final class TotalsTable {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int HASH_SPREAD = 16;
+
+    private final int columns;
+    private String[] names = new String[INITIAL_CAPACITY];
+    // The position of every name in the order, which is its id
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private double[] totals;
+    // The names in the order they got their rows
+    private final List<String> order = new ArrayList<>();
+
+    /**
+     * Constructs an empty table
+     *
+     * @param columns The number of totals kept for every name
+     */
+    public TotalsTable(final int columns) {
+        this.columns = columns;
+        totals = new double[INITIAL_CAPACITY * columns];
+    }
+
+    /**
+     * Adds an amount to one of the totals of a name, giving the name a row if it has none
+     *
+     * @param name   The name
+     * @param column The total to add to
+     * @param amount The amount to add
+     */
+    public void add(final String name, final int column, final double amount) {
+        // The row is found first, since finding it may grow the table
+        int slot = rowOf(name);
+        totals[slot * columns + column] += amount;
+    }
+
+    /**
+     * Returns the id of a name, giving the name a row if it has none
+     * Ids are dense and given in the order the names are first seen
+     *
+     * @param name The name
+     * @return The id of the name
+     */
+    public int idOf(final String name) {
+        return ids[rowOf(name)];
+    }
+
+    /**
+     * Returns one of the totals of a name
+     *
+     * @param name   The name
+     * @param column The total to return
+     * @return The total, or 0.0 if nothing was added for the name
+     */
+    public double get(final String name, final int column) {
+        int slot = find(name);
+        return names[slot] == null ? 0.0 : totals[slot * columns + column];
+    }
+
+    /**
+     * Returns the names that have a row, in the order they were first added, so the name
+     * with a given id is at the position of the id
+     *
+     * @return The names
+     */
+    public List<String> getNames() {
+        return order;
+    }
+
+    // Returns the slot of the row of the name, giving the name a row if it has none
+    private int rowOf(final String name) {
+        int slot = find(name);
+        if (names[slot] == null) {
+            // Keep the table at most half full, so probes stay short
+            if (2 * (order.size() + 1) > names.length) {
+                grow();
+                slot = find(name);
+            }
+            names[slot] = name;
+            ids[slot] = order.size();
+            order.add(name);
+        }
+        return slot;
+    }
+
+    // Returns the slot holding the name, or the empty slot it would be stored in
+    private int find(final String name) {
+        int mask = names.length - 1;
+        int hash = name.hashCode();
+        int slot = (hash ^ (hash >>> HASH_SPREAD)) & mask;
+        while (names[slot] != null && !names[slot].equals(name)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // Doubles the capacity and moves every row to its slot in the larger table
+    private void grow() {
+        String[] oldNames = names;
+        int[] oldIds = ids;
+        double[] oldTotals = totals;
+        names = new String[oldNames.length * 2];
+        ids = new int[names.length];
+        totals = new double[names.length * columns];
+
+        for (int i = 0; i < oldNames.length; i++) {
+            if (oldNames[i] != null) {
+                int slot = find(oldNames[i]);
+                names[slot] = oldNames[i];
+                ids[slot] = oldIds[i];
+                System.arraycopy(oldTotals, i * columns, totals, slot * columns, columns);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.poo.models;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * A typed transaction record
+ * Fields that do not apply to the kind of the transaction are left unset (null, or NaN
+ * for the amount). The JSON representation is only built when the transaction is printed
+ */
+@Getter
+@Setter
+public final class Transaction {
+    private final TransactionKind kind;
+    private int timestamp;
+    private double amount = Double.NaN;
+    private String description;
+    private String card;
+    private String cardHolder;
+    // The account the transaction belongs to (sender, savings or upgraded account)
+    private String account;
+    // The other account involved (receiver or classic account)
+    private String counterparty;
+    private String commerciant;
+    private String currency;
+    private String transferType;
+    private String newPlanType;
+    private String splitPaymentType;
+    private String error;
+    private List<Double> amounts;
+    private List<String> involvedAccounts;
+    // The offset of the transaction in the journal, or -1 until it is journaled
+    @Setter(AccessLevel.PACKAGE)
+    private int journalOffset = -1;
+
+    /**
+     * Constructs an empty transaction of the given kind
+     *
+     * @param kind The kind of the transaction
+     */
+    public Transaction(final TransactionKind kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Returns the description of the transaction, either fixed by its kind or free text
+     *
+     * @return The description
+     */
+    public String getDescription() {
+        return kind.getDescription() != null ? kind.getDescription() : description;
+    }
+
+    /**
+     * Checks whether an amount was set for the transaction
+     *
+     * @return true if the transaction has an amount
+     */
+    public boolean hasAmount() {
+        return !Double.isNaN(amount);
+    }
+
+    /**
+     * Converts the transaction into its JSON representation
+     * The fields are written in the same order they are logged in for each kind
+     *
+     * @return ObjectNode containing the transaction details
+     */
+    public ObjectNode toJson() {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        node.put("timestamp", timestamp);
+        node.put("description", getDescription());
+
+        switch (kind) {
+            case NEW_CARD, CARD_DESTROYED -> {
+                node.put("card", card);
+                node.put("cardHolder", cardHolder);
+                node.put("account", account);
+            }
+            case CARD_PAYMENT -> {
+                putAmount(node);
+                if (commerciant != null) {
+                    node.put("commerciant", commerciant);
+                }
+            }
+            case UPGRADE_PLAN -> {
+                node.put("accountIBAN", account);
+                node.put("newPlanType", newPlanType);
+            }
+            case INTEREST_INCOME -> {
+                putAmount(node);
+                node.put("currency", currency);
+            }
+            case CASH_WITHDRAWAL -> putAmount(node);
+            case SAVINGS_WITHDRAWAL -> {
+                node.put("savingsAccountIBAN", account);
+                node.put("classicAccountIBAN", counterparty);
+                putAmount(node);
+            }
+            case TRANSFER, COMMERCIANT_TRANSFER -> {
+                node.put("senderIBAN", account);
+                node.put("receiverIBAN", counterparty);
+                node.put("amount", formatTransferAmount());
+                node.put("transferType", transferType);
+            }
+            case SPLIT_PAYMENT -> putSplitPayment(node);
+            default -> {
+            }
+        }
+        return node;
+    }
+
+    // Writes the amount, if the transaction has one
+    private void putAmount(final ObjectNode node) {
+        if (hasAmount()) {
+            node.put("amount", amount);
+        }
+    }
+
+    // Transfers print the amount together with its currency
+    private String formatTransferAmount() {
+        if (kind == TransactionKind.COMMERCIANT_TRANSFER) {
+            return String.format("%.1f %s", amount, currency);
+        }
+        return amount + " " + currency;
+    }
+
+    // Writes the split payment details
+    private void putSplitPayment(final ObjectNode node) {
+        node.put("splitPaymentType", splitPaymentType);
+        node.put("currency", currency);
+
+        if (amounts != null) {
+            ArrayNode amountsNode = node.putArray("amountForUsers");
+            amounts.forEach(amountsNode::add);
+        } else {
+            putAmount(node);
+        }
+
+        ArrayNode accountsNode = node.putArray("involvedAccounts");
+        if (involvedAccounts != null) {
+            involvedAccounts.forEach(accountsNode::add);
+        }
+
+        if (error != null && !error.isEmpty()) {
+            node.put("error", error);
+        }
+    }
+}
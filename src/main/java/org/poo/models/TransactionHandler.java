@@ -1,51 +1,69 @@
 package org.poo.models;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import lombok.Getter;
-
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Handles transaction management: storing, adding, and filtering transactions
+ * The transactions themselves live in the shared TransactionJournal; the handler only keeps
+ * the offsets of its entries, sorted by timestamp, so range queries are answered by binary
+ * search. Offsets grow with every journaled transaction, so sorting them gives back the
+ * order the transactions were logged in
+ * Commands arrive in timestamp order, so appending usually extends the index; only an
+ * out-of-order append (such as a split payment logged at its request timestamp) has to be
+ * merged into it
  */
-@Getter
 public final class TransactionHandler {
-    private final ArrayNode transactions;
+    private static final int INITIAL_CAPACITY = 8;
 
-    public TransactionHandler() {
-        transactions = new ObjectMapper().createArrayNode();
-    }
+    private final TransactionJournal journal;
+    // Journal offsets of the transactions, in ascending order of their timestamps
+    private int[] sortedOffsets = new int[INITIAL_CAPACITY];
+    private int size;
+    // Whether every transaction was appended in timestamp order
+    private boolean appendOrdered = true;
 
     /**
-     * Adds a transaction to the transaction list
+     * Constructs a transaction handler backed by the given journal
      *
-     * @param transaction The transaction to add as an ObjectNode
+     * @param journal The journal the transactions are stored in
      */
-    public void addTransaction(final ObjectNode transaction) {
-        transactions.add(transaction);
+    public TransactionHandler(final TransactionJournal journal) {
+        this.journal = journal;
     }
 
     /**
-     * Filters transactions that occurred up to a specified timestamp
+     * Adds a transaction to the transaction list
+     * The transaction is journaled the first time it is added to any history
      *
-     * @param timestamp The maximum timestamp for filtering transactions
-     * @return ArrayNode containing the filtered transactions
+     * @param transaction The transaction to add
      */
-    public ArrayNode filterTransactionsByTimestamp(final int timestamp) {
-        ObjectMapper mapper = new ObjectMapper();
-        ArrayNode filteredTransactions = mapper.createArrayNode();
+    public void addTransaction(final Transaction transaction) {
+        if (size == sortedOffsets.length) {
+            sortedOffsets = Arrays.copyOf(sortedOffsets, size * 2);
+        }
+        int offset = journal.append(transaction);
+        int timestamp = journal.getTimestamp(offset);
 
-        transactions.forEach(transaction -> {
-            if (transaction.get("timestamp").asInt() <= timestamp) {
-                filteredTransactions.add(transaction);
-            }
-        });
+        // Merge the entry after every transaction with the same or an earlier timestamp
+        int index = size;
+        if (size > 0 && timestamp < journal.getTimestamp(sortedOffsets[size - 1])) {
+            index = upperBound(timestamp);
+            System.arraycopy(sortedOffsets, index, sortedOffsets, index + 1, size - index);
+            appendOrdered = false;
+        }
+        sortedOffsets[index] = offset;
+        size++;
+    }
 
-        return filteredTransactions;
+    /**
+     * Returns the number of logged transactions
+     *
+     * @return The number of transactions
+     */
+    public int size() {
+        return size;
     }
 
     /**
@@ -53,45 +71,69 @@ public final class TransactionHandler {
      *
      * @param startTimestamp The start of the interval
      * @param endTimestamp   The end of the interval
-     * @return List of ObjectNode containing transactions within the interval
+     * @return List of transactions within the interval, in the order they were logged
      */
-    public List<ObjectNode> filterTransactionsByInterval(final int startTimestamp,
-                                                         final int endTimestamp) {
-        List<ObjectNode> filteredTransactions = new ArrayList<>();
-        transactions.forEach(transaction -> {
-            int transactionTimestamp = transaction.get("timestamp").asInt();
-            if (transactionTimestamp >= startTimestamp && transactionTimestamp <= endTimestamp) {
-                filteredTransactions.add((ObjectNode) transaction);
-            }
-        });
+    public List<Transaction> filterTransactionsByInterval(final int startTimestamp,
+                                                          final int endTimestamp) {
+        int from = lowerBound(startTimestamp);
+        int to = Math.max(from, upperBound(endTimestamp));
+
+        int[] offsets = Arrays.copyOfRange(sortedOffsets, from, to);
+        if (!appendOrdered) {
+            // Out-of-order appends moved some entries, restore the logging order
+            Arrays.sort(offsets);
+        }
+
+        List<Transaction> filteredTransactions = new ArrayList<>(offsets.length);
+        for (int offset : offsets) {
+            filteredTransactions.add(journal.get(offset));
+        }
         return filteredTransactions;
     }
 
     /**
      * Filters transactions that occurred up to a specified timestamp and sorts them
-     * chronologically
+     * chronologically, keeping the logging order between equal timestamps
      *
      * @param timestamp The maximum timestamp for filtering transactions
-     * @return ArrayNode containing the filtered transactions
+     * @return List of the filtered transactions
      */
-    public ArrayNode filterAndSortTransactionsByTimestamp(final int timestamp) {
-        ObjectMapper mapper = new ObjectMapper();
-        ArrayNode sortedTransactions = mapper.createArrayNode();
-        List<ObjectNode> filteredTransactions = new ArrayList<>();
+    public List<Transaction> filterAndSortTransactionsByTimestamp(final int timestamp) {
+        int to = upperBound(timestamp);
+        List<Transaction> filteredTransactions = new ArrayList<>(to);
+        for (int i = 0; i < to; i++) {
+            filteredTransactions.add(journal.get(sortedOffsets[i]));
+        }
+        return filteredTransactions;
+    }
 
-        // Filter transactions using forEach
-        transactions.forEach(transaction -> {
-            if (transaction.get("timestamp").asInt() <= timestamp) {
-                filteredTransactions.add((ObjectNode) transaction);
+    // Returns the index of the first entry with a timestamp not lower than the given one
+    private int lowerBound(final int timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (journal.getTimestamp(sortedOffsets[mid]) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
-        });
-
-        // Sort the filtered transactions by timestamp
-        filteredTransactions.sort(Comparator.comparingInt(t -> t.get("timestamp").asInt()));
-
-        // Add sorted transactions to the resulting ArrayNode
-        filteredTransactions.forEach(sortedTransactions::add);
+        }
+        return low;
+    }
 
-        return sortedTransactions;
+    // Returns the index of the first entry with a timestamp greater than the given one
+    private int upperBound(final int timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (journal.getTimestamp(sortedOffsets[mid]) <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 }
@@ -0,0 +1,76 @@
+package org.poo.models;
+
+import java.util.Arrays;
+
+/**
+ * An append-only journal holding one entry per logged transaction
+ * User and account histories only keep the offsets of their entries, so a transaction
+ * shared by several parties is stored once, no matter how many histories it appears in
+ * Commands on separate accounts may log transactions from several threads, so appending
+ * is synchronized. The arrays are republished after every append, so a reader sees every
+ * entry appended before the offset it was handed
+ */
+public final class TransactionJournal {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private volatile Transaction[] entries = new Transaction[INITIAL_CAPACITY];
+    private volatile int[] timestamps = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Returns the offset of a transaction in the journal, appending it first if it
+     * was not journaled yet
+     *
+     * @param transaction The transaction to journal
+     * @return The offset of the transaction
+     */
+    public synchronized int append(final Transaction transaction) {
+        if (transaction.getJournalOffset() >= 0) {
+            return transaction.getJournalOffset();
+        }
+
+        Transaction[] currentEntries = entries;
+        int[] currentTimestamps = timestamps;
+        if (size == currentEntries.length) {
+            currentEntries = Arrays.copyOf(currentEntries, size * 2);
+            currentTimestamps = Arrays.copyOf(currentTimestamps, size * 2);
+        }
+        currentEntries[size] = transaction;
+        currentTimestamps[size] = transaction.getTimestamp();
+        transaction.setJournalOffset(size);
+
+        // Publish the entry; the volatile writes order it before any later read
+        timestamps = currentTimestamps;
+        entries = currentEntries;
+        return size++;
+    }
+
+    /**
+     * Returns the transaction stored at the given offset
+     *
+     * @param offset The offset of the entry
+     * @return The transaction
+     */
+    public Transaction get(final int offset) {
+        return entries[offset];
+    }
+
+    /**
+     * Returns the timestamp of the transaction stored at the given offset
+     *
+     * @param offset The offset of the entry
+     * @return The timestamp of the transaction
+     */
+    public int getTimestamp(final int offset) {
+        return timestamps[offset];
+    }
+
+    /**
+     * Returns the number of journaled transactions
+     *
+     * @return The number of entries
+     */
+    public synchronized int size() {
+        return size;
+    }
+}
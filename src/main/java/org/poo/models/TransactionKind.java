@@ -0,0 +1,37 @@
+package org.poo.models;
+
+import lombok.Getter;
+
+/**
+ * The kinds of transactions that can be logged
+ * Kinds with a fixed description carry it here, so it is not stored per transaction;
+ * the others keep their own free text description
+ */
+@Getter
+public enum TransactionKind {
+    NEW_ACCOUNT("New account created"),
+    NEW_CARD("New card created"),
+    CARD_DESTROYED("The card has been destroyed"),
+    CARD_PAYMENT("Card payment"),
+    FROZEN_CARD("The card is frozen"),
+    INSUFFICIENT_FUNDS("Insufficient funds"),
+    MINIMUM_FUNDS_REACHED("You have reached the minimum amount of funds, "
+            + "the card will be frozen"),
+    ACCOUNT_NOT_DELETED("Account couldn't be deleted - there are funds remaining"),
+    UPGRADE_PLAN("Upgrade plan"),
+    INTEREST_INCOME("Interest rate income"),
+    SAVINGS_WITHDRAWAL("Savings withdrawal"),
+    MINIMUM_AGE_NOT_MET("You don't have the minimum age required."),
+    NO_CLASSIC_ACCOUNT("You do not have a classic account."),
+    CASH_WITHDRAWAL(null),
+    TRANSFER(null),
+    COMMERCIANT_TRANSFER(null),
+    SPLIT_PAYMENT(null),
+    NOTICE(null);
+
+    private final String description;
+
+    TransactionKind(final String description) {
+        this.description = description;
+    }
+}
@@ -1,22 +1,22 @@
 package org.poo.models;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Data;
+import org.poo.commerciants.CashbackRules;
 import org.poo.fileio.UserInput;
 import org.poo.plans.AccountPlan;
 import org.poo.plans.StandardPlan;
 import org.poo.plans.StudentPlan;
-import org.poo.split.SplitPaymentRequest;
+import org.poo.split.PendingSplits;
+import org.poo.split.SplitLink;
 
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Queue;
 
 /**
  * Represents a user in the system, including their personal information,
@@ -31,7 +31,7 @@ public final class User {
     private String occupation;
     private AccountPlan accountPlan;
     private ArrayList<Account> accounts;
-    private Queue<SplitPaymentRequest> activePaymentRequests;
+    private final PendingSplits activePaymentRequests = new PendingSplits();
 
     // Maps account identifiers to accounts
     private HashMap<String, Account> accountMap;
@@ -43,9 +43,12 @@ public final class User {
     /**
      * Constructs a User instance based on the provided input.
      *
-     * @param input UserInput containing the user's details from the input configuration.
+     * @param input   UserInput containing the user's details from the input configuration.
+     * @param journal The journal the user's transactions are stored in.
+     * @param rules   The cashback rules the user's account plan takes its rates from.
      */
-    public User(final UserInput input) {
+    public User(final UserInput input, final TransactionJournal journal,
+                final CashbackRules rules) {
         firstName = input.getFirstName();
         lastName = input.getLastName();
         email = input.getEmail();
@@ -54,14 +57,13 @@ public final class User {
         accounts = new ArrayList<>();
         accountMap = new HashMap<>();
         accountCardMap = new HashMap<>();
-        activePaymentRequests = new LinkedList<>();
 
         // Initialize the transaction handler for this user
-        transactionHandler = new TransactionHandler();
+        transactionHandler = new TransactionHandler(journal);
         if (occupation.equals("student")) {
-            accountPlan = new StudentPlan();
+            accountPlan = new StudentPlan(rules);
         } else {
-            accountPlan = new StandardPlan();
+            accountPlan = new StandardPlan(rules);
         }
     }
 
@@ -71,9 +73,8 @@ public final class User {
      * @return ObjectNode containing the user's details and their accounts in JSON format.
      */
     public ObjectNode toJson() {
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode userNode = mapper.createObjectNode();
-        ArrayNode accountsArray = mapper.createArrayNode();
+        ObjectNode userNode = JsonNodeFactory.instance.objectNode();
+        ArrayNode accountsArray = JsonNodeFactory.instance.arrayNode();
 
         userNode.put("firstName", firstName);
         userNode.put("lastName", lastName);
@@ -100,34 +101,14 @@ public final class User {
         return Period.between(birthDateParsed, currentDate).getYears();
     }
 
-    /**
-     * Adds a split payment request to the user's active payment requests
-     *
-     * @param req The SplitPaymentRequest to be added
-     */
-    public void addSplitPayment(final SplitPaymentRequest req) {
-        activePaymentRequests.add(req);
-    }
-
     /**
      * Retrieves the next split payment request of the specified type
      *
      * @param type The type of split payment to search for
-     * @return The next SplitPaymentRequest of the specified type, or null if none found.
+     * @return The link of the user to the next request of the specified type, through
+     *         which the request is answered, or null if none found.
      */
-    public SplitPaymentRequest getNextRequestOfType(final String type) {
-        Queue<SplitPaymentRequest> tempQueue = new LinkedList<>();
-
-        SplitPaymentRequest foundRequest = null;
-        while (!activePaymentRequests.isEmpty()) {
-            SplitPaymentRequest req = activePaymentRequests.poll();
-            if (foundRequest == null && req.getType().equalsIgnoreCase(type)) {
-                foundRequest = req;
-            }
-            tempQueue.add(req);
-        }
-
-        activePaymentRequests = tempQueue;
-        return foundRequest;
+    public SplitLink getNextRequestOfType(final String type) {
+        return activePaymentRequests.peek(type);
     }
 }
@@ -18,7 +18,7 @@ public final class Employee implements Role {
     }
 
     @Override
-    public String getType() {
-        return "employee";
+    public RoleType getType() {
+        return RoleType.EMPLOYEE;
     }
 }
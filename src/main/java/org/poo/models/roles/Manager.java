@@ -15,7 +15,7 @@ public final class Manager implements Role {
     }
 
     @Override
-    public String getType() {
-        return "manager";
+    public RoleType getType() {
+        return RoleType.MANAGER;
     }
 }
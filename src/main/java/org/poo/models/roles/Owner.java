@@ -15,7 +15,7 @@ public final class Owner implements Role {
     }
 
     @Override
-    public String getType() {
-        return "owner";
+    public RoleType getType() {
+        return RoleType.OWNER;
     }
 }
@@ -29,7 +29,7 @@ public interface Role {
     /**
      * Retrieves the type of the role
      *
-     * @return A String representing the role type
+     * @return The type of the role
      */
-    String getType();
+    RoleType getType();
 }
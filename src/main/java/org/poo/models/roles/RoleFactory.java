@@ -20,11 +20,21 @@ public final class RoleFactory {
      *         - null if the role type does not match any of these types
      */
     public static Role createRole(final String role) {
-        return switch (role.toLowerCase()) {
-            case "owner" -> new Owner();
-            case "manager" -> new Manager();
-            case "employee" -> new Employee();
-            default -> null;
+        RoleType type = RoleType.fromName(role.toLowerCase());
+        return type == null ? null : createRole(type);
+    }
+
+    /**
+     * Creates a role instance of the provided role type
+     *
+     * @param type The type of the role
+     * @return An instance of the corresponding role type
+     */
+    public static Role createRole(final RoleType type) {
+        return switch (type) {
+            case OWNER -> new Owner();
+            case MANAGER -> new Manager();
+            case EMPLOYEE -> new Employee();
         };
     }
 }
@@ -0,0 +1,40 @@
+package org.poo.models.roles;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The roles a user can have in a business account
+ */
+@Getter
+public enum RoleType {
+    OWNER("owner"),
+    MANAGER("manager"),
+    EMPLOYEE("employee");
+
+    private static final Map<String, RoleType> BY_NAME = new HashMap<>();
+
+    static {
+        for (RoleType type : values()) {
+            BY_NAME.put(type.roleName, type);
+        }
+    }
+
+    private final String roleName;
+
+    RoleType(final String roleName) {
+        this.roleName = roleName;
+    }
+
+    /**
+     * Resolves a role name to its type
+     *
+     * @param name The name of the role, in lower case
+     * @return The type, or null if the name is not supported
+     */
+    public static RoleType fromName(final String name) {
+        return name == null ? null : BY_NAME.get(name);
+    }
+}
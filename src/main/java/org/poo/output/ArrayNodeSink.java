@@ -0,0 +1,24 @@
+package org.poo.output;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import lombok.Getter;
+
+/**
+ * Collects the results in memory, in an ArrayNode
+ */
+@Getter
+public final class ArrayNodeSink implements OutputSink {
+    private final ArrayNode nodes = JsonNodeFactory.instance.arrayNode();
+
+    /**
+     * Adds a result to the collected nodes
+     *
+     * @param node The result to add
+     */
+    @Override
+    public void add(final JsonNode node) {
+        nodes.add(node);
+    }
+}
@@ -0,0 +1,85 @@
+package org.poo.output;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes every result to a pretty printed JSON array as soon as it is added, so the
+ * results do not have to be kept until the end of the run
+ * The written file is the same as pretty printing the array of all the results at once
+ */
+public final class JsonGeneratorSink implements OutputSink {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final JsonGenerator generator;
+
+    /**
+     * Starts the output array on the given generator
+     *
+     * @param generator The generator to write to; it is closed together with the sink
+     * @throws IOException in case of exceptions to writing the output
+     */
+    public JsonGeneratorSink(final JsonGenerator generator) throws IOException {
+        this.generator = generator;
+        generator.writeStartArray();
+    }
+
+    /**
+     * Opens a sink writing to the given file through a buffered file channel
+     *
+     * @param mapper The mapper the results are serialized with
+     * @param file   The output file, created or truncated
+     * @return The opened sink
+     * @throws IOException in case of exceptions to opening the file
+     */
+    public static JsonGeneratorSink open(final ObjectMapper mapper, final Path file)
+            throws IOException {
+        OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(
+                FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)), BUFFER_SIZE);
+        JsonGenerator generator = mapper.createGenerator(stream, JsonEncoding.UTF8);
+        generator.setPrettyPrinter(new DefaultPrettyPrinter());
+        return new JsonGeneratorSink(generator);
+    }
+
+    /**
+     * Writes a result as the next element of the array
+     *
+     * @param node The result to write
+     * @throws UncheckedIOException in case of exceptions to writing the output
+     */
+    @Override
+    public void add(final JsonNode node) {
+        try {
+            generator.writeTree(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ends the array and closes the generator together with the file
+     *
+     * @throws IOException in case of exceptions to writing the output
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            generator.writeEndArray();
+        } finally {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.poo.output;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A destination for the results of the output commands and the errors of the actions
+ * Results are handed over as soon as they are produced, in execution order
+ */
+public interface OutputSink extends Closeable {
+
+    /**
+     * Adds a result to the output
+     *
+     * @param node The result to add
+     */
+    void add(JsonNode node);
+
+    /**
+     * Finishes the output; nothing can be added afterwards
+     *
+     * @throws IOException in case of exceptions to writing the output
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,54 @@
+package org.poo.parallel;
+
+/**
+ * Union-find over the commands of a batch, used to merge the commands whose footprints
+ * overlap into the same shard
+ */
+final class DisjointSets {
+    private final int[] parent;
+
+    /**
+     * Constructs the sets, one for every element
+     *
+     * @param size The number of elements
+     */
+    DisjointSets(final int size) {
+        parent = new int[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+    }
+
+    /**
+     * Finds the representative of the set of an element
+     *
+     * @param element The element
+     * @return The representative of its set
+     */
+    int find(final int element) {
+        int current = element;
+        while (parent[current] != current) {
+            // Path halving: point every visited element to its grandparent
+            parent[current] = parent[parent[current]];
+            current = parent[current];
+        }
+        return current;
+    }
+
+    /**
+     * Merges the sets of two elements, keeping the smaller representative so the
+     * representative of a set is always its first element
+     *
+     * @param first  An element of the first set
+     * @param second An element of the second set
+     */
+    void union(final int first, final int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        if (firstRoot < secondRoot) {
+            parent[secondRoot] = firstRoot;
+        } else if (secondRoot < firstRoot) {
+            parent[firstRoot] = secondRoot;
+        }
+    }
+}
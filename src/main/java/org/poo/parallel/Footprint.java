@@ -0,0 +1,56 @@
+package org.poo.parallel;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The shared state a command reads or writes, given as the objects holding it: the users,
+ * accounts and queues it touches. Commands whose footprints have no object in common can
+ * run at the same time
+ * A barrier footprint marks a command that has to run alone, because it changes how
+ * users, accounts and cards are looked up, draws from the random generators or reads the
+ * state of every user
+ */
+@Getter
+public final class Footprint {
+    private static final Footprint BARRIER = new Footprint(true);
+
+    private final boolean barrier;
+    private final List<Object> resources = new ArrayList<>();
+
+    private Footprint(final boolean barrier) {
+        this.barrier = barrier;
+    }
+
+    /**
+     * Constructs an empty footprint, to which the touched objects are added
+     */
+    public Footprint() {
+        this(false);
+    }
+
+    /**
+     * Returns the footprint of a command that has to run alone
+     *
+     * @return The barrier footprint
+     */
+    public static Footprint barrier() {
+        return BARRIER;
+    }
+
+    /**
+     * Adds an object the command touches; missing objects are ignored, since a command
+     * that does not find them only reports an error
+     *
+     * @param resource The touched object, or null
+     * @return This footprint
+     */
+    public Footprint add(final Object resource) {
+        if (resource != null) {
+            resources.add(resource);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,118 @@
+package org.poo.parallel;
+
+import org.poo.data.DataContainer;
+import org.poo.fileio.CommandInput;
+import org.poo.main.App;
+import org.poo.models.Account;
+import org.poo.models.Card;
+import org.poo.models.User;
+import org.poo.split.SplitPaymentRequest;
+
+/**
+ * Resolves the footprint of a command from its input, looking its users, accounts and
+ * cards up the same way the command itself does
+ * Only barriers change the lookups, so the footprint of a command stays valid until the
+ * next barrier, no matter which other commands run before it
+ */
+public final class FootprintResolver {
+
+    /**
+     * Resolves the footprint of a command against the current state of the application
+     *
+     * @param app     The application context
+     * @param command The command to resolve
+     * @return The footprint of the command
+     */
+    public Footprint resolve(final App app, final CommandInput command) {
+        DataContainer data = app.getDataContainer();
+        Footprint footprint = new Footprint();
+
+        switch (command.getCommandType()) {
+            // Opening accounts and cards draws the next IBAN or card number, deleting them
+            // or setting an alias changes the lookups and printing users reads everything
+            case PRINT_USERS, ADD_ACCOUNT, CREATE_CARD, CREATE_ONE_TIME_CARD, DELETE_ACCOUNT,
+                 DELETE_CARD, SET_ALIAS -> {
+                return Footprint.barrier();
+            }
+            case PRINT_TRANSACTIONS -> footprint.add(data.getEmailMap().get(command.getEmail()));
+            case REPORT, SPENDINGS_REPORT, BUSINESS_REPORT, ADD_FUNDS, SET_MINIMUM_BALANCE,
+                 CHANGE_SPENDING_LIMIT, CHANGE_DEPOSIT_LIMIT, ADD_NEW_BUSINESS_ASSOCIATE ->
+                    footprint.add(data.getAccountMap().get(command.getAccount()));
+            case ADD_INTEREST, CHANGE_INTEREST_RATE, UPGRADE_PLAN -> addAccountAndOwner(
+                    footprint, data, data.getAccountMap().get(command.getAccount()));
+            case WITHDRAW_SAVINGS -> {
+                // The savings are moved to one of the classic accounts of the owner
+                User owner = data.getUserAccountMap().get(command.getAccount());
+                footprint.add(data.getAccountMap().get(command.getAccount())).add(owner);
+                if (owner != null) {
+                    owner.getAccounts().forEach(footprint::add);
+                }
+            }
+            case CHECK_CARD_STATUS -> {
+                User user = data.getUserCardMap().get(command.getCardNumber());
+                if (user != null) {
+                    footprint.add(user).add(user.getAccountCardMap()
+                            .get(command.getCardNumber()));
+                }
+            }
+            case CASH_WITHDRAWAL -> {
+                User user = data.getEmailMap().get(command.getEmail());
+                if (user != null) {
+                    footprint.add(user).add(user.getAccountCardMap()
+                            .get(command.getCardNumber()));
+                }
+            }
+            case PAY_ONLINE -> {
+                // Paying with a one-time card draws the number of its replacement
+                Card card = data.getCardMap().get(command.getCardNumber());
+                if (card != null && card.isOneTime()) {
+                    return Footprint.barrier();
+                }
+                footprint.add(data.getEmailMap().get(command.getEmail()))
+                        .add(data.getAccountCardMap().get(command.getCardNumber()));
+            }
+            case SEND_MONEY -> {
+                User sender = data.getEmailMap().get(command.getEmail());
+                if (sender != null) {
+                    footprint.add(sender).add(sender.getAccountMap().get(command.getAccount()));
+                }
+                addAccountAndOwner(footprint, data,
+                        data.getAccountMap().get(command.getReceiver()));
+            }
+            case SPLIT_PAYMENT -> {
+                footprint.add(app.getActiveSplitPayments());
+                if (command.getAccounts() != null) {
+                    for (String iban : command.getAccounts()) {
+                        addAccountAndOwner(footprint, data, data.getAccountMap().get(iban));
+                    }
+                }
+            }
+            case ACCEPT_SPLIT_PAYMENT, REJECT_SPLIT_PAYMENT -> {
+                /* The response may complete any request the user still has to answer.
+                Requests made earlier in the same batch are covered by the queue of active
+                split payments, which every split payment command touches */
+                User user = data.getEmailMap().get(command.getEmail());
+                footprint.add(app.getActiveSplitPayments()).add(user);
+                if (user != null) {
+                    for (SplitPaymentRequest request : user.getActivePaymentRequests()) {
+                        for (String iban : request.getAccounts()) {
+                            addAccountAndOwner(footprint, data, data.getAccountMap().get(iban));
+                        }
+                    }
+                }
+            }
+            default -> {
+                // Unknown commands are ignored, so they touch nothing
+            }
+        }
+        return footprint;
+    }
+
+    // Adds an account and the user owning it, whose history its transactions are logged in
+    private void addAccountAndOwner(final Footprint footprint, final DataContainer data,
+                                    final Account account) {
+        if (account != null) {
+            footprint.add(account).add(data.getUserAccountMap().get(account.getIban()));
+        }
+    }
+}
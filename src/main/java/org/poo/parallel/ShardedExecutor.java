@@ -0,0 +1,199 @@
+package org.poo.parallel;
+
+import org.poo.fileio.CommandInput;
+import org.poo.main.App;
+import org.poo.output.OutputSink;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Executes a stream of commands on a fork-join pool, with the same results and output as
+ * running them one after the other
+ * The commands are read in batches that end at a barrier or when the batch is full. The
+ * commands of a batch are split into shards with union-find: two commands whose footprints
+ * share a user, an account or the split payment queue end up in the same shard, so a
+ * transfer or a split payment joins the shards of every account it touches. Every shard
+ * runs its commands in input order while the shards run in parallel, so the state of any
+ * account only ever sees its commands in input order. The results of the commands are kept
+ * in slots and written in input order once the batch is done, and barriers run alone
+ * between batches
+ */
+public final class ShardedExecutor {
+    private static final int DEFAULT_BATCH_SIZE = 4096;
+
+    private final App app;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final FootprintResolver resolver = new FootprintResolver();
+
+    private final List<CommandInput> batch = new ArrayList<>();
+    private final List<Footprint> footprints = new ArrayList<>();
+    private SlottedOutput output;
+
+    /**
+     * Constructs an executor with the default batch size
+     *
+     * @param app  The application the commands run on
+     * @param pool The pool the shards run on
+     */
+    public ShardedExecutor(final App app, final ForkJoinPool pool) {
+        this(app, pool, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs an executor
+     *
+     * @param app       The application the commands run on
+     * @param pool      The pool the shards run on
+     * @param batchSize The largest number of commands sharded together
+     */
+    public ShardedExecutor(final App app, final ForkJoinPool pool, final int batchSize) {
+        this.app = app;
+        this.pool = pool;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Executes the commands as they are pulled from the given stream
+     * The output of the application is redirected to the slots of the commands while
+     * the stream runs, and restored afterwards
+     *
+     * @param commandStream The stream of commands to execute
+     */
+    public void flow(final Iterator<CommandInput> commandStream) {
+        OutputSink target = app.getOutput();
+        output = new SlottedOutput(target);
+        app.setOutput(output);
+        try {
+            while (commandStream.hasNext()) {
+                CommandInput command = commandStream.next();
+                Footprint footprint = resolver.resolve(app, command);
+
+                if (footprint.isBarrier()) {
+                    runBatch();
+                    app.execute(command);
+                    continue;
+                }
+                batch.add(command);
+                footprints.add(footprint);
+                if (batch.size() == batchSize) {
+                    runBatch();
+                }
+            }
+            runBatch();
+        } finally {
+            batch.clear();
+            footprints.clear();
+            app.setOutput(target);
+        }
+    }
+
+    /* Runs the commands read since the last barrier. A batch with a single shard runs on
+    the calling thread, writing its results straight to the target */
+    private void runBatch() {
+        int size = batch.size();
+        if (size == 0) {
+            return;
+        }
+
+        int[][] shards = shard();
+        if (shards.length == 1) {
+            batch.forEach(app::execute);
+        } else {
+            output.open(size);
+            pool.invoke(new ShardTask(shards, 0, shards.length));
+            output.drain(size);
+        }
+        batch.clear();
+        footprints.clear();
+    }
+
+    /* Groups the commands of the batch into shards. Every object of a footprint is owned by
+    the first command touching it, and every later command touching it joins the set of
+    its owner. Shards are numbered in the order of their first command and list their
+    commands in input order */
+    private int[][] shard() {
+        int size = batch.size();
+        DisjointSets sets = new DisjointSets(size);
+        Map<Object, Integer> owners = new IdentityHashMap<>();
+        for (int i = 0; i < size; i++) {
+            for (Object resource : footprints.get(i).getResources()) {
+                Integer owner = owners.putIfAbsent(resource, i);
+                if (owner != null) {
+                    sets.union(owner, i);
+                }
+            }
+        }
+
+        // The representative of a set is its first command, so it is numbered first
+        int[] shardOf = new int[size];
+        int[] shardSizes = new int[size];
+        int shardCount = 0;
+        for (int i = 0; i < size; i++) {
+            int root = sets.find(i);
+            shardOf[i] = root == i ? shardCount++ : shardOf[root];
+            shardSizes[shardOf[i]]++;
+        }
+
+        int[][] shards = new int[shardCount][];
+        int[] filled = new int[shardCount];
+        for (int i = 0; i < size; i++) {
+            int shard = shardOf[i];
+            if (shards[shard] == null) {
+                shards[shard] = new int[shardSizes[shard]];
+            }
+            shards[shard][filled[shard]++] = i;
+        }
+        return shards;
+    }
+
+    /**
+     * Runs a range of shards, splitting it in halves until a single shard is left
+     */
+    private final class ShardTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] shards;
+        private final int from;
+        private final int to;
+
+        private ShardTask(final int[][] shards, final int from, final int to) {
+            this.shards = shards;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                runShard(shards[from]);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ShardTask(shards, from, middle), new ShardTask(shards, middle, to));
+        }
+
+        // Runs the commands of a shard in order, stopping at the first one that fails
+        private void runShard(final int[] commands) {
+            try {
+                for (int index : commands) {
+                    output.bind(index);
+                    try {
+                        app.execute(batch.get(index));
+                    } catch (RuntimeException e) {
+                        output.fail(index, e);
+                        return;
+                    }
+                }
+            } finally {
+                output.unbind();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.poo.parallel;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.poo.output.ArrayNodeSink;
+import org.poo.output.OutputSink;
+
+/**
+ * An output that keeps the results of every command of a batch in a slot of its own, so
+ * the commands can run in any order on any thread and their results are still written in
+ * the order of the commands
+ * Results added while no slot is bound to the current thread go straight to the target
+ */
+final class SlottedOutput implements OutputSink {
+    private final OutputSink target;
+    // The slot bound to the current thread, or -1
+    private final ThreadLocal<int[]> boundSlot = ThreadLocal.withInitial(() -> new int[] {-1});
+    private ArrayNodeSink[] slots = new ArrayNodeSink[0];
+    private RuntimeException[] failures = new RuntimeException[0];
+
+    /**
+     * Constructs the output
+     *
+     * @param target The output the results are written to, in order
+     */
+    SlottedOutput(final OutputSink target) {
+        this.target = target;
+    }
+
+    /**
+     * Adds a result to the slot bound to the current thread, or to the target if none is
+     *
+     * @param node The result to add
+     */
+    @Override
+    public void add(final JsonNode node) {
+        int slot = boundSlot.get()[0];
+        if (slot < 0) {
+            target.add(node);
+            return;
+        }
+        // Most commands have no result, so a slot is only created for the first one
+        if (slots[slot] == null) {
+            slots[slot] = new ArrayNodeSink();
+        }
+        slots[slot].add(node);
+    }
+
+    /**
+     * Prepares empty slots for the commands of a batch
+     *
+     * @param size The number of commands
+     */
+    void open(final int size) {
+        if (slots.length < size) {
+            slots = new ArrayNodeSink[size];
+            failures = new RuntimeException[size];
+        }
+    }
+
+    /**
+     * Binds a slot to the current thread, until it is unbound
+     *
+     * @param slot The slot of the command about to run
+     */
+    void bind(final int slot) {
+        boundSlot.get()[0] = slot;
+    }
+
+    /**
+     * Unbinds the slot of the current thread
+     */
+    void unbind() {
+        boundSlot.get()[0] = -1;
+    }
+
+    /**
+     * Records the exception a command failed with
+     *
+     * @param slot    The slot of the command
+     * @param failure The exception
+     */
+    void fail(final int slot, final RuntimeException failure) {
+        failures[slot] = failure;
+    }
+
+    /**
+     * Writes the results of the first commands of the batch to the target, in order, and
+     * clears their slots
+     * The batch stops at the first failed command, as it would have if the commands ran
+     * one after the other, so its exception is thrown after the results before it
+     *
+     * @param size The number of commands of the batch
+     * @throws RuntimeException the exception of the first failed command
+     */
+    void drain(final int size) {
+        RuntimeException failure = null;
+        for (int i = 0; i < size; i++) {
+            if (slots[i] != null && failure == null) {
+                slots[i].getNodes().forEach(target::add);
+            }
+            if (failures[i] != null && failure == null) {
+                failure = failures[i];
+            }
+            slots[i] = null;
+            failures[i] = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
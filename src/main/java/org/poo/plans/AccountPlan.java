@@ -2,8 +2,6 @@ package org.poo.plans;
 
 import org.poo.main.App;
 
-import static org.poo.utils.Constants.*;
-
 /**
  * Interface representing the structure and behavior of an account plan
  * Provides default implementations for common functionalities like transaction fees,
@@ -34,26 +32,27 @@ public interface AccountPlan {
     }
 
     /**
-     * Calculates the cashback rate based on the total spending amount
+     * Calculates the cashback rate based on the total spending amount, from the rates the
+     * cashback rules give the plan
      *
      * @param totalSpendingAmount The total spending amount for the account
      * @return The cashback rate
      */
-    default double getCashbackRate(final double totalSpendingAmount) {
-        if (totalSpendingAmount >= THIRD_THRESHOLD) {
-            return STANDARD_BIG_CASHBACK_RATE;
-        } else if (totalSpendingAmount >= SECOND_THRESHOLD) {
-            return STANDARD_MEDIUM_CASHBACK_RATE;
-        } else if (totalSpendingAmount >= FIRST_THRESHOLD) {
-            return STANDARD_SMALL_CASHBACK_RATE;
-        }
-        return 0.0;
-    }
+    double getCashbackRate(double totalSpendingAmount);
+
+    /**
+     * Retrieves the tier of the account plan
+     *
+     * @return The tier of the plan
+     */
+    PlanTier getTier();
 
     /**
      * Retrieves the name of the account plan
      *
      * @return The name of the plan as a String
      */
-    String getPlanName();
+    default String getPlanName() {
+        return getTier().getPlanName();
+    }
 }
@@ -1,5 +1,7 @@
 package org.poo.plans;
 
+import org.poo.commerciants.CashbackRules;
+
 /**
  * Factory class for creating instances of AccountPlan
  * This factory provides an interface for creating different account plans
@@ -15,17 +17,32 @@ public final class AccountPlanFactory {
     /**
      * Creates and returns an instance of AccountPlan based on the provided plan name
      *
+     * @param rules    The cashback rules the plan takes its rates from
      * @param planName The name of the plan to create
      * @return An instance of AccountPlan corresponding to the provided plan name
      * @throws IllegalArgumentException if the provided plan name does not match any known plan
      */
-    public static AccountPlan createPlan(final String planName) {
-        return switch (planName.toLowerCase()) {
-            case "standard" -> new StandardPlan();
-            case "student" -> new StudentPlan();
-            case "silver" -> new SilverPlan();
-            case "gold" -> new GoldPlan();
-            default -> throw new IllegalArgumentException("Invalid plan name: " + planName);
+    public static AccountPlan createPlan(final CashbackRules rules, final String planName) {
+        PlanTier tier = PlanTier.fromName(planName.toLowerCase());
+        if (tier == null) {
+            throw new IllegalArgumentException("Invalid plan name: " + planName);
+        }
+        return createPlan(rules, tier);
+    }
+
+    /**
+     * Creates and returns an instance of AccountPlan of the provided tier
+     *
+     * @param rules The cashback rules the plan takes its rates from
+     * @param tier  The tier of the plan to create
+     * @return An instance of AccountPlan of the tier
+     */
+    public static AccountPlan createPlan(final CashbackRules rules, final PlanTier tier) {
+        return switch (tier) {
+            case STANDARD -> new StandardPlan(rules);
+            case STUDENT -> new StudentPlan(rules);
+            case SILVER -> new SilverPlan(rules);
+            case GOLD -> new GoldPlan(rules);
         };
     }
 }
@@ -1,22 +1,26 @@
 package org.poo.plans;
 
-import static org.poo.utils.Constants.*;
+import org.poo.commerciants.CashbackRules;
 
 public final class GoldPlan implements AccountPlan {
+    private final CashbackRules.PlanRates cashbackRates;
+
+    /**
+     * Constructs the plan, with its rates from the cashback rules
+     *
+     * @param rules The cashback rules of the bank
+     */
+    public GoldPlan(final CashbackRules rules) {
+        cashbackRates = rules.getPlanRates(getPlanName());
+    }
+
     @Override
     public double getCashbackRate(final double totalSpendingAmount) {
-        if (totalSpendingAmount >= THIRD_THRESHOLD) {
-            return GOLD_BIG_CASHBACK_RATE;
-        } else if (totalSpendingAmount >= SECOND_THRESHOLD) {
-            return GOLD_MEDIUM_CASHBACK_RATE;
-        } else if (totalSpendingAmount >= FIRST_THRESHOLD) {
-            return GOLD_SMALL_CASHBACK_RATE;
-        }
-        return 0.0;
+        return cashbackRates.getCashbackRate(totalSpendingAmount);
     }
 
     @Override
-    public String getPlanName() {
-        return "gold";
+    public PlanTier getTier() {
+        return PlanTier.GOLD;
     }
 }
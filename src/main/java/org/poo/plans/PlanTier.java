@@ -0,0 +1,81 @@
+package org.poo.plans;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.poo.utils.Constants.GOLD_UPGRADE_FROM_SILVER;
+import static org.poo.utils.Constants.GOLD_UPGRADE_FROM_STANDARD;
+import static org.poo.utils.Constants.SILVER_UPGRADE_FEE;
+
+/**
+ * The account plans a user can have, ordered by rank
+ * The fee of every upgrade sits in a matrix indexed by the ordinals of the current and the
+ * new plan, so pricing an upgrade is a single lookup
+ */
+@Getter
+public enum PlanTier {
+    STANDARD("standard", 0),
+    STUDENT("student", 0),
+    SILVER("silver", 1),
+    GOLD("gold", 2);
+
+    // The fee of a change that is not an upgrade
+    private static final double NO_UPGRADE = -1;
+    private static final Map<String, PlanTier> BY_NAME = new HashMap<>();
+    // The fee of upgrading from plan i to plan j, in RON, at [i][j]
+    private static final double[][] UPGRADE_FEES = new double[values().length][];
+
+    static {
+        for (PlanTier tier : values()) {
+            BY_NAME.put(tier.planName, tier);
+            UPGRADE_FEES[tier.ordinal()] = new double[values().length];
+            Arrays.fill(UPGRADE_FEES[tier.ordinal()], NO_UPGRADE);
+        }
+        UPGRADE_FEES[STANDARD.ordinal()][SILVER.ordinal()] = SILVER_UPGRADE_FEE;
+        UPGRADE_FEES[STUDENT.ordinal()][SILVER.ordinal()] = SILVER_UPGRADE_FEE;
+        UPGRADE_FEES[STANDARD.ordinal()][GOLD.ordinal()] = GOLD_UPGRADE_FROM_STANDARD;
+        UPGRADE_FEES[STUDENT.ordinal()][GOLD.ordinal()] = GOLD_UPGRADE_FROM_STANDARD;
+        UPGRADE_FEES[SILVER.ordinal()][GOLD.ordinal()] = GOLD_UPGRADE_FROM_SILVER;
+    }
+
+    private final String planName;
+    private final int rank;
+
+    PlanTier(final String planName, final int rank) {
+        this.planName = planName;
+        this.rank = rank;
+    }
+
+    /**
+     * Resolves a plan name to its tier
+     *
+     * @param name The name of the plan, in lower case
+     * @return The tier, or null if the name is not supported
+     */
+    public static PlanTier fromName(final String name) {
+        return name == null ? null : BY_NAME.get(name);
+    }
+
+    /**
+     * Returns the fee of upgrading from this plan to another one
+     *
+     * @param target The new plan
+     * @return The fee in RON, or a negative value if the new plan is not an upgrade
+     */
+    public double getUpgradeFee(final PlanTier target) {
+        return UPGRADE_FEES[ordinal()][target.ordinal()];
+    }
+
+    /**
+     * Checks whether this plan ranks above another one, so moving to it is a downgrade
+     *
+     * @param other The other plan
+     * @return true if this plan ranks higher
+     */
+    public boolean isAbove(final PlanTier other) {
+        return rank > other.rank;
+    }
+}
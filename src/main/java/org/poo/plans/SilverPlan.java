@@ -1,10 +1,22 @@
 package org.poo.plans;
 
+import org.poo.commerciants.CashbackRules;
 import org.poo.main.App;
 
 import static org.poo.utils.Constants.*;
 
 public final class SilverPlan implements AccountPlan {
+    private final CashbackRules.PlanRates cashbackRates;
+
+    /**
+     * Constructs the plan, with its rates from the cashback rules
+     *
+     * @param rules The cashback rules of the bank
+     */
+    public SilverPlan(final CashbackRules rules) {
+        cashbackRates = rules.getPlanRates(getPlanName());
+    }
+
     @Override
     public double getTransactionFee(final App app, final double amount) {
         if (amount < SILVER_NO_FEE_THRESHOLD) {
@@ -20,18 +32,11 @@ public final class SilverPlan implements AccountPlan {
 
     @Override
     public double getCashbackRate(final double totalSpendingAmount) {
-        if (totalSpendingAmount >= THIRD_THRESHOLD) {
-            return SILVER_BIG_CASHBACK_RATE;
-        } else if (totalSpendingAmount >= SECOND_THRESHOLD) {
-            return SILVER_MEDIUM_CASHBACK_RATE;
-        } else if (totalSpendingAmount >= FIRST_THRESHOLD) {
-            return SILVER_SMALL_CASHBACK_RATE;
-        }
-        return 0.0;
+        return cashbackRates.getCashbackRate(totalSpendingAmount);
     }
 
     @Override
-    public String getPlanName() {
-        return "silver";
+    public PlanTier getTier() {
+        return PlanTier.SILVER;
     }
 }
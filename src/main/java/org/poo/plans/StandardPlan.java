@@ -1,17 +1,34 @@
 package org.poo.plans;
 
+import org.poo.commerciants.CashbackRules;
 import org.poo.main.App;
 
 import static org.poo.utils.Constants.STANDARD_FEE;
 
 public final class StandardPlan implements AccountPlan {
+    private final CashbackRules.PlanRates cashbackRates;
+
+    /**
+     * Constructs the plan, with its rates from the cashback rules
+     *
+     * @param rules The cashback rules of the bank
+     */
+    public StandardPlan(final CashbackRules rules) {
+        cashbackRates = rules.getPlanRates(getPlanName());
+    }
+
     @Override
     public double getTransactionFee(final App app, final double amount) {
         return STANDARD_FEE;
     }
 
     @Override
-    public String getPlanName() {
-        return "standard";
+    public double getCashbackRate(final double totalSpendingAmount) {
+        return cashbackRates.getCashbackRate(totalSpendingAmount);
+    }
+
+    @Override
+    public PlanTier getTier() {
+        return PlanTier.STANDARD;
     }
 }
@@ -1,8 +1,26 @@
 package org.poo.plans;
 
+import org.poo.commerciants.CashbackRules;
+
 public final class StudentPlan implements AccountPlan {
+    private final CashbackRules.PlanRates cashbackRates;
+
+    /**
+     * Constructs the plan, with its rates from the cashback rules
+     *
+     * @param rules The cashback rules of the bank
+     */
+    public StudentPlan(final CashbackRules rules) {
+        cashbackRates = rules.getPlanRates(getPlanName());
+    }
+
+    @Override
+    public double getCashbackRate(final double totalSpendingAmount) {
+        return cashbackRates.getCashbackRate(totalSpendingAmount);
+    }
+
     @Override
-    public String getPlanName() {
-        return "student";
+    public PlanTier getTier() {
+        return PlanTier.STUDENT;
     }
 }
@@ -0,0 +1,128 @@
+package org.poo.split;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * The split payment requests a user still has to answer, in one FIFO queue per type
+ * The queues are linked through the requests themselves, which hold a link for every
+ * account taking part, so the oldest request of a type is found, and a request is removed
+ * from any position, without walking the requests the user has pending
+ */
+public final class PendingSplits implements Iterable<SplitPaymentRequest> {
+    // The queues of the user, by lower-case type
+    private final Map<String, Queue> queues = new HashMap<>();
+
+    /**
+     * Returns the link of the oldest pending request of a type, leaving it in its queue
+     *
+     * @param type The type of split payment, in any case
+     * @return The link of the oldest request of the type, or null if there is none
+     */
+    public SplitLink peek(final String type) {
+        if (type == null) {
+            return null;
+        }
+        // The queues are keyed by lower-case type, so only a type in another case is converted
+        Queue queue = queues.get(type);
+        if (queue == null) {
+            queue = queues.get(type.toLowerCase(Locale.ROOT));
+        }
+        return queue == null ? null : queue.head;
+    }
+
+    /**
+     * Returns an iterator over the pending requests, once for every link still queued
+     * The iterator walks the links of the queues, so the queues must not change while it
+     * is used
+     *
+     * @return The iterator
+     */
+    @Override
+    public Iterator<SplitPaymentRequest> iterator() {
+        return new LinkIterator(queues.values().iterator());
+    }
+
+    /**
+     * Appends a link of a request to the queue of its type
+     *
+     * @param link The link, which must not be queued
+     */
+    void add(final SplitLink link) {
+        Queue queue = queues.computeIfAbsent(link.getRequest().getTypeKey(), type -> new Queue());
+        link.setPrevious(queue.tail);
+        link.setNext(null);
+        if (queue.tail == null) {
+            queue.head = link;
+        } else {
+            queue.tail.setNext(link);
+        }
+        queue.tail = link;
+        link.setQueued(true);
+    }
+
+    /**
+     * Unlinks a link of a request from the queue of its type
+     *
+     * @param link The link, which must be queued here
+     */
+    void remove(final SplitLink link) {
+        Queue queue = queues.get(link.getRequest().getTypeKey());
+        if (link.getPrevious() == null) {
+            queue.head = link.getNext();
+        } else {
+            link.getPrevious().setNext(link.getNext());
+        }
+        if (link.getNext() == null) {
+            queue.tail = link.getPrevious();
+        } else {
+            link.getNext().setPrevious(link.getPrevious());
+        }
+        link.setPrevious(null);
+        link.setNext(null);
+        link.setQueued(false);
+    }
+
+    // The first and last link of the queue of one type
+    private static final class Queue {
+        private SplitLink head;
+        private SplitLink tail;
+    }
+
+    // Walks the links of every queue in turn
+    private static final class LinkIterator implements Iterator<SplitPaymentRequest> {
+        private final Iterator<Queue> queues;
+        private SplitLink next;
+
+        private LinkIterator(final Iterator<Queue> queues) {
+            this.queues = queues;
+            advance(null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public SplitPaymentRequest next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            SplitLink current = next;
+            advance(current.getNext());
+            return current.getRequest();
+        }
+
+        // Moves to the given link, or to the head of the next queue that is not empty
+        private void advance(final SplitLink link) {
+            next = link;
+            while (next == null && queues.hasNext()) {
+                next = queues.next().head;
+            }
+        }
+    }
+}
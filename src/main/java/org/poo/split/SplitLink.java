@@ -0,0 +1,41 @@
+package org.poo.split;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.poo.models.User;
+
+/**
+ * The place of a split payment request in the pending requests of one of its participants
+ * A request has a link for every account taking part, so a user paying from two of its
+ * accounts has the request queued twice, and every acceptance removes one of the links
+ * The commands answer a request through the link found at the head of the queue, so the
+ * link is removed without searching for it
+ */
+@Getter
+@Setter(AccessLevel.PACKAGE)
+public final class SplitLink {
+    private final SplitPaymentRequest request;
+    private final User owner;
+    private final String account;
+    // The neighbours in the queue of the owner
+    private SplitLink previous;
+    private SplitLink next;
+    private boolean queued;
+    // The neighbours in the list of the account, while the request is registered
+    private SplitLink accountPrevious;
+    private SplitLink accountNext;
+
+    /**
+     * Constructs a link that is not queued yet
+     *
+     * @param request The request
+     * @param owner   The user owning the account the link stands for
+     * @param account The IBAN of the account
+     */
+    SplitLink(final SplitPaymentRequest request, final User owner, final String account) {
+        this.request = request;
+        this.owner = owner;
+        this.account = account;
+    }
+}
@@ -1,28 +1,54 @@
 package org.poo.split;
 
-import lombok.Data;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import org.poo.fileio.CommandInput;
 import org.poo.main.App;
 import org.poo.models.Account;
+import org.poo.models.BalanceReservation;
 import org.poo.models.User;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
  * Represents a request for splitting a payment among multiple accounts
+ * Requests are equal only if they have the same id, as the responses change while the
+ * request is pending
  */
-@Data
+@Getter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public final class SplitPaymentRequest {
+    @EqualsAndHashCode.Include
+    private final int id;
     private final String type;
+    // The type in lower case, keying the queues of pending requests of every participant
+    @ToString.Exclude
+    private final String typeKey;
     private final List<String> accounts;
     private final double total;
     private final List<Double> amounts;
     private final String currency;
     private final int timestamp;
     private final Map<String, Boolean> responses;
+    // The place of the request in the pending requests of the owner of every account
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final SplitLink[] links;
+    // The number of users whose response is not an acceptance
+    @Getter(AccessLevel.NONE)
+    private int awaiting;
+    /* The converted amounts found by the last successful funds check, reserved from their
+    accounts when the payment is processed */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private BalanceReservation reservation;
 
     /**
      * Initializes a new SplitPaymentRequest based on the provided command input
@@ -32,7 +58,9 @@ public final class SplitPaymentRequest {
      * @param command The command input containing the split payment details
      */
     public SplitPaymentRequest(final App app, final CommandInput command) {
+        id = app.getActiveSplitPayments().newId();
         type = command.getSplitPaymentType();
+        typeKey = type.toLowerCase(Locale.ROOT);
         accounts = command.getAccounts();
         total = command.getAmount();
 
@@ -49,31 +77,67 @@ public final class SplitPaymentRequest {
         currency = command.getCurrency();
         timestamp = command.getTimestamp();
         responses = new HashMap<>();
+        links = new SplitLink[accounts.size()];
 
-        for (String iban : accounts) {
-            User user = app.getDataContainer().getUserAccountMap().get(iban);
+        for (int i = 0; i < links.length; i++) {
+            User user = app.getDataContainer().getUserAccountMap().get(accounts.get(i));
             responses.put(user.getEmail(), null);
-            user.addSplitPayment(this);
+            links[i] = new SplitLink(this, user, accounts.get(i));
+            user.getActivePaymentRequests().add(links[i]);
         }
+        awaiting = responses.size();
     }
 
     /**
-     * Marks a user's response as accepted for the split payment
+     * Marks a user's response as accepted for the split payment, for one of its accounts
      *
-     * @param user The user who accepts the split payment
+     * @param link The queued link of the request the user answered, which is removed from
+     *             the pending requests of the user
      */
-    public void accept(final User user) {
-        responses.put(user.getEmail(), true);
-        user.getActivePaymentRequests().remove(this);
+    public void accept(final SplitLink link) {
+        respond(link.getOwner(), true);
+        link.getOwner().getActivePaymentRequests().remove(link);
     }
 
     /**
      * Marks a user's response as rejected for the split payment
      *
-     * @param user The user who rejects the split payment
+     * @param link The queued link of the request the user answered, which is removed from
+     *             the pending requests of the user
      */
-    public void reject(final User user) {
-        responses.put(user.getEmail(), false);
+    public void reject(final SplitLink link) {
+        respond(link.getOwner(), false);
+        link.getOwner().getActivePaymentRequests().remove(link);
+    }
+
+    // Records the response of a user, counting the users that have not accepted yet
+    private void respond(final User user, final boolean accepted) {
+        boolean acceptedBefore = Boolean.TRUE.equals(responses.put(user.getEmail(), accepted));
+        if (accepted && !acceptedBefore) {
+            awaiting--;
+        } else if (!accepted && acceptedBefore) {
+            awaiting++;
+        }
+    }
+
+    /**
+     * Returns the links of the request, one for every account taking part, in order
+     *
+     * @return The links
+     */
+    SplitLink[] links() {
+        return links;
+    }
+
+    /**
+     * Removes the request from the pending requests of every user taking part
+     */
+    public void withdraw() {
+        for (SplitLink link : links) {
+            if (link.isQueued()) {
+                link.getOwner().getActivePaymentRequests().remove(link);
+            }
+        }
     }
 
     /**
@@ -82,7 +146,7 @@ public final class SplitPaymentRequest {
      * @return true if all users have accepted; otherwise false
      */
     public boolean allUsersAccepted() {
-        return responses.values().stream().allMatch(Boolean.TRUE::equals);
+        return awaiting == 0;
     }
 
     /**
@@ -93,6 +157,7 @@ public final class SplitPaymentRequest {
      * @return true if all accounts have sufficient funds; otherwise false
      */
     public boolean areFundsSufficient(final App app, final StringBuilder error) {
+        reservation = new BalanceReservation();
         for (int i = 0; i < accounts.size(); i++) {
             User user = app.getDataContainer().getUserAccountMap().get(accounts.get(i));
             Account account = app.getDataContainer().getAccountMap().get(accounts.get(i));
@@ -110,28 +175,35 @@ public final class SplitPaymentRequest {
             transactionFee *= amountToPay;
 
             if (account.getBalance() < amountToPay + transactionFee) {
-                error.append("Account ").append(account.getIban())
-                        .append(" has insufficient funds for a split payment.");
+                appendInsufficientFunds(account, error);
                 return false;
             }
+            reservation.add(account, amountToPay, amountToPay + transactionFee);
         }
         return true;
     }
 
     /**
-     * Processes the split payment by deducting the amounts from each account
+     * Processes the split payment by deducting the amounts from each account, all at once
+     * The accounts and amounts are the ones found by the funds check, which must have
+     * succeeded right before. If a balance changed since and no longer covers its amount,
+     * no account is debited
      *
-     * @param app The application context
+     * @param error A StringBuilder to capture the error message if the payment fails
+     * @return true if every account was debited; otherwise false
      */
-    public void processPayment(final App app) {
-        for (int i = 0; i < accounts.size(); i++) {
-            Account account = app.getDataContainer().getAccountMap().get(accounts.get(i));
-            if (account != null) {
-                double rate = app.getExchangeGraph()
-                        .findExchangeRate(currency, account.getCurrency());
-                double amountToPay = amounts.get(i) * rate;
-                account.setBalance(account.getBalance() - amountToPay);
-            }
+    public boolean processPayment(final StringBuilder error) {
+        if (!reservation.commit()) {
+            appendInsufficientFunds(reservation.getFailedAccount(), error);
+            return false;
         }
+        return true;
+    }
+
+    // Writes the error of an account that cannot cover its share of the payment
+    private static void appendInsufficientFunds(final Account account,
+                                                final StringBuilder error) {
+        error.append("Account ").append(account.getIban())
+                .append(" has insufficient funds for a split payment.");
     }
 }
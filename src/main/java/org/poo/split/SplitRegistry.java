@@ -0,0 +1,136 @@
+package org.poo.split;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The split payment requests that are still waiting for answers, indexed by their ids and
+ * by the accounts taking part in them
+ * Ids are given in the order the requests are made, so the pending requests sit in an array
+ * at the offset of their id from the oldest one still pending, and finding or removing a
+ * request is a single index. Every account has a list of the requests it takes part in,
+ * linked through the links of the requests, so a request is unlinked from every list
+ * without walking them
+ */
+public final class SplitRegistry {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The pending requests, the one in slot i having the id firstId + i
+    private SplitPaymentRequest[] requests = new SplitPaymentRequest[INITIAL_CAPACITY];
+    private int firstId;
+    // The first slot that may hold a request; every slot before it is empty
+    private int start;
+    private int nextId;
+    // The list of every account, by IBAN
+    private final Map<String, AccountList> accountLists = new HashMap<>();
+
+    /**
+     * Returns a new id, greater than every id returned before
+     *
+     * @return The id
+     */
+    public int newId() {
+        return nextId++;
+    }
+
+    /**
+     * Registers a request as pending
+     *
+     * @param request The request, whose id is not registered yet
+     */
+    public void add(final SplitPaymentRequest request) {
+        int slot = request.getId() - firstId;
+        if (slot >= requests.length) {
+            compact();
+            slot = request.getId() - firstId;
+            if (slot >= requests.length) {
+                SplitPaymentRequest[] larger = new SplitPaymentRequest[
+                        Math.max(requests.length * 2, slot + 1)];
+                System.arraycopy(requests, 0, larger, 0, requests.length);
+                requests = larger;
+            }
+        }
+        requests[slot] = request;
+
+        for (SplitLink link : request.links()) {
+            AccountList list = accountLists.computeIfAbsent(link.getAccount(),
+                    iban -> new AccountList());
+            link.setAccountPrevious(list.tail);
+            if (list.tail == null) {
+                list.head = link;
+            } else {
+                list.tail.setAccountNext(link);
+            }
+            list.tail = link;
+        }
+    }
+
+    /**
+     * Removes a request, if it is pending
+     *
+     * @param request The request
+     * @return true if the request was pending
+     */
+    public boolean remove(final SplitPaymentRequest request) {
+        int slot = request.getId() - firstId;
+        if (slot < start || slot >= requests.length || requests[slot] != request) {
+            return false;
+        }
+        requests[slot] = null;
+        while (start < requests.length && requests[start] == null && firstId + start < nextId) {
+            start++;
+        }
+
+        for (SplitLink link : request.links()) {
+            AccountList list = accountLists.get(link.getAccount());
+            if (link.getAccountPrevious() == null) {
+                list.head = link.getAccountNext();
+            } else {
+                link.getAccountPrevious().setAccountNext(link.getAccountNext());
+            }
+            if (link.getAccountNext() == null) {
+                list.tail = link.getAccountPrevious();
+            } else {
+                link.getAccountNext().setAccountPrevious(link.getAccountPrevious());
+            }
+            link.setAccountPrevious(null);
+            link.setAccountNext(null);
+            if (list.head == null) {
+                accountLists.remove(link.getAccount());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Passes the pending requests an account takes part in to an action, oldest first,
+     * once for every time the account appears in a request
+     *
+     * @param iban   The IBAN of the account
+     * @param action The action to run on every request
+     */
+    public void forEachPendingRequest(final String iban,
+                                      final Consumer<SplitPaymentRequest> action) {
+        AccountList list = accountLists.get(iban);
+        for (SplitLink link = list == null ? null : list.head; link != null;
+             link = link.getAccountNext()) {
+            action.accept(link.getRequest());
+        }
+    }
+
+    // Moves the pending requests to the front of the array, dropping the empty slots before
+    private void compact() {
+        System.arraycopy(requests, start, requests, 0, requests.length - start);
+        Arrays.fill(requests, requests.length - start, requests.length, null);
+        firstId += start;
+        start = 0;
+    }
+
+    // The first and last link of the list of one account
+    private static final class AccountList {
+        private SplitLink head;
+        private SplitLink tail;
+    }
+}
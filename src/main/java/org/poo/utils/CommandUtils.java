@@ -1,7 +1,7 @@
 package org.poo.utils;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.poo.fileio.CommandInput;
+import org.poo.output.OutputSink;
 
 /**
  * Utility class for handling command-related operations
@@ -15,13 +15,13 @@ public final class CommandUtils {
     }
 
     /**
-     * Adds an error message to the provided output JSON array
+     * Adds an error message to the provided output
      *
-     * @param output  The ArrayNode to which the error will be added
+     * @param output  The OutputSink to which the error will be added
      * @param command The CommandInput that caused the error
      * @param error   The error message
      */
-    public static void addErrorToOutput(final ArrayNode output, final CommandInput command,
+    public static void addErrorToOutput(final OutputSink output, final CommandInput command,
                                         final String error) {
         output.add(JsonUtils.createError(command, error));
     }
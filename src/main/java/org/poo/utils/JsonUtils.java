@@ -1,15 +1,17 @@
 package org.poo.utils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.poo.fileio.CommandInput;
+import org.poo.models.Transaction;
+
+import java.util.List;
 
 /**
  * Utility class for creating JSON objects related to transactions and errors
  */
 public final class JsonUtils {
-    private static final ObjectMapper mapper = new ObjectMapper();
-
     /**
      * Private constructor to prevent instantiation of the utility class
      */
@@ -24,8 +26,8 @@ public final class JsonUtils {
      * @return An ObjectNode representing the error
      */
     public static ObjectNode createError(final CommandInput command, final String error) {
-        ObjectNode errorNode = mapper.createObjectNode();
-        ObjectNode output = mapper.createObjectNode();
+        ObjectNode errorNode = JsonNodeFactory.instance.objectNode();
+        ObjectNode output = JsonNodeFactory.instance.objectNode();
 
         errorNode.put("command", command.getCommand());
         output.put("timestamp", command.getTimestamp());
@@ -35,6 +37,20 @@ public final class JsonUtils {
         return errorNode;
     }
 
+    /**
+     * Converts a list of transactions into a JSON array
+     *
+     * @param transactions The transactions to convert
+     * @return An ArrayNode containing the JSON representation of each transaction
+     */
+    public static ArrayNode createTransactions(final List<Transaction> transactions) {
+        ArrayNode transactionsArray = JsonNodeFactory.instance.arrayNode();
+        for (Transaction transaction : transactions) {
+            transactionsArray.add(transaction.toJson());
+        }
+        return transactionsArray;
+    }
+
     /**
      * Creates a spending error object for unsupported operations.
      *
@@ -43,8 +59,8 @@ public final class JsonUtils {
      * @return An ObjectNode representing the spending report error
      */
     public static ObjectNode createSpendingsError(final CommandInput command, final String error) {
-        ObjectNode errorNode = mapper.createObjectNode();
-        ObjectNode output = mapper.createObjectNode();
+        ObjectNode errorNode = JsonNodeFactory.instance.objectNode();
+        ObjectNode output = JsonNodeFactory.instance.objectNode();
 
         errorNode.put("command", command.getCommand());
         output.put("error", error);
@@ -1,23 +1,25 @@
 package org.poo.utils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.poo.models.Transaction;
+import org.poo.models.TransactionKind;
+
+import java.util.List;
 
 /**
- * A builder class for creating JSON objects
- * representing transactions step by step.
- *
+ * A builder class for creating typed transaction records step by step.
+ * IBANs and commerciant names are interned, so repeated transactions of the same
+ * accounts share their strings
  */
 public final class TransactionBuilder {
-    private final ObjectNode transaction;
+    private final Transaction transaction;
 
     /**
      * Constructs a new instance of the TransactionBuilder
+     *
+     * @param kind The kind of the transaction
      */
-    public TransactionBuilder() {
-        ObjectMapper mapper = new ObjectMapper();
-        transaction = mapper.createObjectNode();
+    public TransactionBuilder(final TransactionKind kind) {
+        transaction = new Transaction(kind);
     }
 
     /**
@@ -27,18 +29,18 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addTimestamp(final int timestamp) {
-        transaction.put("timestamp", timestamp);
+        transaction.setTimestamp(timestamp);
         return this;
     }
 
     /**
-     * Adds a description to the transaction
+     * Adds a free text description to the transaction, for kinds without a fixed one
      *
      * @param description A text description
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addDescription(final String description) {
-        transaction.put("description", description);
+        transaction.setDescription(description);
         return this;
     }
 
@@ -49,7 +51,7 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addCard(final String cardNumber) {
-        transaction.put("card", cardNumber);
+        transaction.setCard(cardNumber);
         return this;
     }
 
@@ -60,7 +62,7 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addCardHolder(final String cardHolder) {
-        transaction.put("cardHolder", cardHolder);
+        transaction.setCardHolder(cardHolder);
         return this;
     }
 
@@ -71,7 +73,7 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addAccount(final String account) {
-        transaction.put("account", account);
+        transaction.setAccount(account.intern());
         return this;
     }
 
@@ -82,7 +84,7 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addSenderIBAN(final String senderIBAN) {
-        transaction.put("senderIBAN", senderIBAN);
+        transaction.setAccount(senderIBAN.intern());
         return this;
     }
 
@@ -93,7 +95,7 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addReceiverIBAN(final String receiverIBAN) {
-        transaction.put("receiverIBAN", receiverIBAN);
+        transaction.setCounterparty(receiverIBAN.intern());
         return this;
     }
 
@@ -104,18 +106,18 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addAmount(final double amount) {
-        transaction.put("amount", amount);
+        transaction.setAmount(amount);
         return this;
     }
 
     /**
-     * Adds the transaction amount as a string
+     * Adds the commerciant the transaction was made to
      *
-     * @param amount The transaction amount as a string
+     * @param commerciant The commerciant name
      * @return The current instance of the builder for method chaining
      */
-    public TransactionBuilder addAmount(final String amount) {
-        transaction.put("amount", amount);
+    public TransactionBuilder addCommerciant(final String commerciant) {
+        transaction.setCommerciant(commerciant.intern());
         return this;
     }
 
@@ -126,7 +128,7 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addTransferType(final String type) {
-        transaction.put("transferType", type);
+        transaction.setTransferType(type);
         return this;
     }
 
@@ -137,18 +139,18 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addCurrency(final String currency) {
-        transaction.put("currency", currency);
+        transaction.setCurrency(currency);
         return this;
     }
 
     /**
      * Adds a list of accounts involved in the transaction
      *
-     * @param involvedAccounts A JSON array containing the involved accounts
+     * @param involvedAccounts The IBANs of the involved accounts
      * @return The current instance of the builder for method chaining
      */
-    public TransactionBuilder addInvolvedAccounts(final ArrayNode involvedAccounts) {
-        transaction.set("involvedAccounts", involvedAccounts);
+    public TransactionBuilder addInvolvedAccounts(final List<String> involvedAccounts) {
+        transaction.setInvolvedAccounts(involvedAccounts == null ? List.of() : involvedAccounts);
         return this;
     }
 
@@ -159,7 +161,7 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addError(final String error) {
-        transaction.put("error", error);
+        transaction.setError(error);
         return this;
     }
 
@@ -170,7 +172,7 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addNewPlanType(final String newPlanType) {
-        transaction.put("newPlanType", newPlanType);
+        transaction.setNewPlanType(newPlanType);
         return this;
     }
 
@@ -181,7 +183,7 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addAccountIBAN(final String iban) {
-        transaction.put("accountIBAN", iban);
+        transaction.setAccount(iban.intern());
         return this;
     }
 
@@ -192,18 +194,18 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addSplitType(final String type) {
-        transaction.put("splitPaymentType", type);
+        transaction.setSplitPaymentType(type);
         return this;
     }
 
     /**
      * Adds the list of amounts for users in the split payment
      *
-     * @param amounts A JSON array containing the amounts for users
+     * @param amounts The amounts for users
      * @return The current instance of the builder for method chaining
      */
-    public TransactionBuilder addAmounts(final ArrayNode amounts) {
-        transaction.set("amountForUsers", amounts);
+    public TransactionBuilder addAmounts(final List<Double> amounts) {
+        transaction.setAmounts(amounts == null ? List.of() : amounts);
         return this;
     }
 
@@ -214,7 +216,7 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addClassicIBAN(final String receiverIBAN) {
-        transaction.put("classicAccountIBAN", receiverIBAN);
+        transaction.setCounterparty(receiverIBAN.intern());
         return this;
     }
 
@@ -225,15 +227,16 @@ public final class TransactionBuilder {
      * @return The current instance of the builder for method chaining
      */
     public TransactionBuilder addSavingsIBAN(final String savingsIBAN) {
-        transaction.put("savingsAccountIBAN", savingsIBAN);
+        transaction.setAccount(savingsIBAN.intern());
         return this;
     }
+
     /**
      * Finalizes the transaction
      *
-     * @return The complete transaction as an ObjectNode
+     * @return The complete transaction
      */
-    public ObjectNode build() {
+    public Transaction build() {
         return transaction;
     }
 }